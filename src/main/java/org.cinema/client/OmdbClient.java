@@ -0,0 +1,92 @@
+package org.cinema.client;
+
+import org.apache.commons.lang3.StringUtils;
+import org.cinema.model.MovieAPI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Client interface for the OMDB API.
+ * All calls are asynchronous; failures complete the returned future exceptionally with a
+ * {@link org.cinema.exception.NoDataFoundException} when OMDB has no data, or an
+ * {@link org.cinema.exception.OmdbApiException} otherwise.
+ */
+public interface OmdbClient {
+    /**
+     * Searches OMDB by title and retrieves the IMDb IDs of the matching movies.
+     *
+     * @param title the movie title to search for.
+     * @return a future of the IMDb IDs of the search results.
+     */
+    CompletableFuture<List<String>> searchImdbIds(String title);
+
+    /**
+     * Retrieves the details of a movie.
+     *
+     * @param imdbId the IMDb ID of the movie.
+     * @return a future of the {@link MovieAPI} with the movie details.
+     */
+    CompletableFuture<MovieAPI> getMovieDetails(String imdbId);
+
+    /**
+     * Searches OMDB by title with per-request options.
+     * Clients that do not send requests themselves ignore the options.
+     *
+     * @param title the movie title to search for.
+     * @param options the {@link RequestOptions} of the request.
+     * @return a future of the IMDb IDs of the search results.
+     */
+    default CompletableFuture<List<String>> searchImdbIds(String title, RequestOptions options) {
+        return searchImdbIds(title);
+    }
+
+    /**
+     * Retrieves the details of a movie with per-request options.
+     * Clients that do not send requests themselves ignore the options.
+     *
+     * @param imdbId the IMDb ID of the movie.
+     * @param options the {@link RequestOptions} of the request.
+     * @return a future of the {@link MovieAPI} with the movie details.
+     */
+    default CompletableFuture<MovieAPI> getMovieDetails(String imdbId, RequestOptions options) {
+        return getMovieDetails(imdbId);
+    }
+
+    /**
+     * Normalizes a title for use as a key of identical searches: trimmed, single-spaced and lower-case.
+     *
+     * @param title the movie title.
+     * @return the normalized title.
+     */
+    static String normalizeTitle(String title) {
+        return StringUtils.normalizeSpace(title).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Options of a single OMDB request.
+     *
+     * @param timeout the time OMDB has to answer, counted from sending the request, so that waiting
+     *                for a free in-flight slot does not count against it.
+     * @param onSent the callback run when the request is sent.
+     */
+    record RequestOptions(Duration timeout, Runnable onSent) {
+    }
+
+    /**
+     * Searches OMDB by title and retrieves the details of all matching movies in parallel.
+     *
+     * @param title the movie title to search for.
+     * @return a future of the {@link MovieAPI} objects in search result order.
+     */
+    default CompletableFuture<List<MovieAPI>> searchMovies(String title) {
+        return searchImdbIds(title).thenCompose(imdbIds -> {
+            List<CompletableFuture<MovieAPI>> details = imdbIds.stream()
+                    .map(this::getMovieDetails)
+                    .toList();
+            return CompletableFuture.allOf(details.toArray(CompletableFuture[]::new))
+                    .thenApply(ignored -> details.stream().map(CompletableFuture::join).toList());
+        });
+    }
+}
@@ -0,0 +1,195 @@
+package org.cinema.client.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.cinema.client.OmdbClient;
+import org.cinema.exception.NoDataFoundException;
+import org.cinema.model.MovieAPI;
+import org.cinema.util.LruTtlCache;
+import org.cinema.util.SingleFlight;
+import org.cinema.util.ValidationUtil;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caching decorator of the OMDB client.
+ * Search results are cached by normalized title and movie details by IMDb ID, both bounded in size and age.
+ * Titles and IDs OMDB has no data for are cached for a shorter time, and concurrent misses of the same
+ * title or ID share one OMDB call. Positive entries are written to a
+ * snapshot file periodically and on shutdown, and restored on startup.
+ */
+@Component
+@Primary
+@Slf4j
+public class CachingOmdbClient implements OmdbClient {
+
+    private final OmdbClient delegate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${omdb.cache.max-searches:1000}")
+    private int maxSearches;
+
+    @Value("${omdb.cache.max-details:5000}")
+    private int maxDetails;
+
+    @Value("${omdb.cache.search-ttl-minutes:60}")
+    private long searchTtlMinutes;
+
+    @Value("${omdb.cache.details-ttl-minutes:1440}")
+    private long detailsTtlMinutes;
+
+    @Value("${omdb.cache.negative-ttl-minutes:5}")
+    private long negativeTtlMinutes;
+
+    @Value("${omdb.cache.snapshot-file:}")
+    private String snapshotFile;
+
+    private LruTtlCache<String, List<String>> searches;
+    private LruTtlCache<String, MovieAPI> details;
+    private LruTtlCache<String, String> notFound;
+    private final SingleFlight<String, List<String>> searchFlights = new SingleFlight<>();
+    private final SingleFlight<String, MovieAPI> detailsFlights = new SingleFlight<>();
+
+    public CachingOmdbClient(@Qualifier("circuitBreakingOmdbClient") OmdbClient delegate, ObjectMapper objectMapper) {
+        this.delegate = delegate;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    void init() {
+        searches = new LruTtlCache<>(maxSearches, TimeUnit.MINUTES.toMillis(searchTtlMinutes));
+        details = new LruTtlCache<>(maxDetails, TimeUnit.MINUTES.toMillis(detailsTtlMinutes));
+        notFound = new LruTtlCache<>(maxSearches + maxDetails, TimeUnit.MINUTES.toMillis(negativeTtlMinutes));
+        restoreSnapshot();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        saveSnapshot();
+    }
+
+    @Override
+    public CompletableFuture<List<String>> searchImdbIds(String title) {
+        ValidationUtil.validateNotBlank(title, "movie_title");
+        String key = OmdbClient.normalizeTitle(title);
+        List<String> imdbIds = searches.getIfPresent(key);
+        if (imdbIds != null) {
+            return CompletableFuture.completedFuture(imdbIds);
+        }
+        String notFoundMessage = notFound.getIfPresent("s:" + key);
+        if (notFoundMessage != null) {
+            return CompletableFuture.failedFuture(new NoDataFoundException(notFoundMessage));
+        }
+
+        return searchFlights.executeAsync(key, () -> loadSearch(key));
+    }
+
+    @Override
+    public CompletableFuture<MovieAPI> getMovieDetails(String imdbId) {
+        MovieAPI movie = details.getIfPresent(imdbId);
+        if (movie != null) {
+            return CompletableFuture.completedFuture(movie);
+        }
+        String notFoundMessage = notFound.getIfPresent("i:" + imdbId);
+        if (notFoundMessage != null) {
+            return CompletableFuture.failedFuture(new NoDataFoundException(notFoundMessage));
+        }
+
+        return detailsFlights.executeAsync(imdbId, () -> loadDetails(imdbId));
+    }
+
+    /**
+     * Retrieves the counters of the search, details and not-found caches.
+     *
+     * @return the statistics of each cache by name.
+     */
+    public Map<String, LruTtlCache.Stats> getStats() {
+        Map<String, LruTtlCache.Stats> stats = new LinkedHashMap<>();
+        stats.put("omdbSearches", searches.stats());
+        stats.put("omdbDetails", details.stats());
+        stats.put("omdbNotFound", notFound.stats());
+        return stats;
+    }
+
+    @Scheduled(fixedDelayString = "${omdb.cache.snapshot-millis:300000}",
+            initialDelayString = "${omdb.cache.snapshot-millis:300000}")
+    public void saveSnapshot() {
+        if (StringUtils.isBlank(snapshotFile)) {
+            return;
+        }
+        Path path = Path.of(snapshotFile);
+        Snapshot snapshot = new Snapshot(System.currentTimeMillis(), searches.snapshot(), details.snapshot());
+        try {
+            Path tempFile = path.resolveSibling(path.getFileName() + ".tmp");
+            objectMapper.writeValue(tempFile.toFile(), snapshot);
+            Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("OMDB cache snapshot with {} search(es) and {} movie(s) written to {}.",
+                    snapshot.searches().size(), snapshot.details().size(), path);
+        } catch (IOException e) {
+            log.warn("Failed to write OMDB cache snapshot to {}: {}", path, e.getMessage());
+        }
+    }
+
+    private void restoreSnapshot() {
+        if (StringUtils.isBlank(snapshotFile) || !Files.isRegularFile(Path.of(snapshotFile))) {
+            return;
+        }
+        try {
+            Snapshot snapshot = objectMapper.readValue(Path.of(snapshotFile).toFile(), Snapshot.class);
+            // Entries keep the age of the snapshot, so a restart never extends their lifetime past the TTL.
+            long age = System.currentTimeMillis() - snapshot.savedAtMillis();
+            long searchTtl = TimeUnit.MINUTES.toMillis(searchTtlMinutes) - age;
+            long detailsTtl = TimeUnit.MINUTES.toMillis(detailsTtlMinutes) - age;
+            snapshot.searches().forEach((key, imdbIds) -> searches.put(key, List.copyOf(imdbIds), searchTtl));
+            snapshot.details().forEach((imdbId, movie) -> details.put(imdbId, movie, detailsTtl));
+            log.info("OMDB cache restored with {} search(es) and {} movie(s).",
+                    searches.stats().size(), details.stats().size());
+        } catch (IOException e) {
+            log.warn("Failed to restore OMDB cache snapshot from {}: {}", snapshotFile, e.getMessage());
+        }
+    }
+
+    // Searches OMDB for the normalized title, so the cached result matches its key whatever spelling came first.
+    private CompletableFuture<List<String>> loadSearch(String key) {
+        return delegate.searchImdbIds(key).whenComplete((result, error) -> {
+            if (error == null) {
+                searches.put(key, List.copyOf(result));
+            } else if (unwrap(error) instanceof NoDataFoundException e) {
+                notFound.put("s:" + key, e.getMessage());
+            }
+        });
+    }
+
+    private CompletableFuture<MovieAPI> loadDetails(String imdbId) {
+        return delegate.getMovieDetails(imdbId).whenComplete((result, error) -> {
+            if (error == null) {
+                details.put(imdbId, result);
+            } else if (unwrap(error) instanceof NoDataFoundException e) {
+                notFound.put("i:" + imdbId, e.getMessage());
+            }
+        });
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private record Snapshot(long savedAtMillis, Map<String, List<String>> searches, Map<String, MovieAPI> details) {
+    }
+}
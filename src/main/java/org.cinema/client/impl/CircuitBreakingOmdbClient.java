@@ -0,0 +1,166 @@
+package org.cinema.client.impl;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.cinema.client.OmdbClient;
+import org.cinema.exception.NoDataFoundException;
+import org.cinema.exception.OmdbUnavailableException;
+import org.cinema.model.MovieAPI;
+import org.cinema.util.CircuitBreaker;
+import org.cinema.util.LatencyWindow;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Circuit breaking decorator of the OMDB client.
+ * Each request is bounded by a timeout derived from a high percentile of recent OMDB latencies, and the outcomes
+ * feed a {@link CircuitBreaker}; while the breaker is open, calls fail at once with an
+ * {@link OmdbUnavailableException} instead of waiting for OMDB.
+ * "No data" answers are successful calls; timeouts count as failed and slow.
+ */
+@Component
+@Slf4j
+public class CircuitBreakingOmdbClient implements OmdbClient {
+
+    private static final int LATENCY_WINDOW_SIZE = 100;
+
+    private final OmdbClient delegate;
+
+    @Value("${omdb.circuit-breaker.failure-rate-threshold:50}")
+    private int failureRateThreshold;
+
+    @Value("${omdb.circuit-breaker.slow-call-rate-threshold:80}")
+    private int slowCallRateThreshold;
+
+    @Value("${omdb.circuit-breaker.slow-call-millis:2000}")
+    private long slowCallMillis;
+
+    @Value("${omdb.circuit-breaker.window-size:20}")
+    private int windowSize;
+
+    @Value("${omdb.circuit-breaker.minimum-calls:10}")
+    private int minimumCalls;
+
+    @Value("${omdb.circuit-breaker.open-millis:30000}")
+    private long openMillis;
+
+    @Value("${omdb.circuit-breaker.half-open-calls:3}")
+    private int halfOpenCalls;
+
+    @Value("${omdb.timeout.percentile:99}")
+    private double timeoutPercentile;
+
+    @Value("${omdb.timeout.multiplier:2.0}")
+    private double timeoutMultiplier;
+
+    @Value("${omdb.timeout.min-millis:300}")
+    private long minTimeoutMillis;
+
+    @Value("${omdb.timeout.max-millis:5000}")
+    private long maxTimeoutMillis;
+
+    private CircuitBreaker circuitBreaker;
+    private final LatencyWindow latencies = new LatencyWindow(LATENCY_WINDOW_SIZE);
+
+    public CircuitBreakingOmdbClient(@Qualifier("omdbClientImpl") OmdbClient delegate) {
+        this.delegate = delegate;
+    }
+
+    @PostConstruct
+    void init() {
+        circuitBreaker = new CircuitBreaker(failureRateThreshold, slowCallRateThreshold, slowCallMillis,
+                windowSize, minimumCalls, openMillis, halfOpenCalls);
+    }
+
+    @Override
+    public CompletableFuture<List<String>> searchImdbIds(String title) {
+        return call(options -> delegate.searchImdbIds(title, options));
+    }
+
+    @Override
+    public CompletableFuture<MovieAPI> getMovieDetails(String imdbId) {
+        return call(options -> delegate.getMovieDetails(imdbId, options));
+    }
+
+    /**
+     * Retrieves the state and rates of the circuit breaker.
+     *
+     * @return the current {@link CircuitBreaker.Metrics}.
+     */
+    public CircuitBreaker.Metrics getMetrics() {
+        return circuitBreaker.metrics();
+    }
+
+    /**
+     * Computes the current call timeout: the configured percentile of recent latencies times the multiplier,
+     * within the configured bounds. Until enough calls were measured the maximum is used.
+     *
+     * @return the timeout in milliseconds.
+     */
+    public long getTimeoutMillis() {
+        if (latencies.size() < minimumCalls) {
+            return maxTimeoutMillis;
+        }
+        long percentileMillis = TimeUnit.NANOSECONDS.toMillis(latencies.percentile(timeoutPercentile));
+        long timeout = (long) (percentileMillis * timeoutMultiplier);
+        return Math.max(minTimeoutMillis, Math.min(maxTimeoutMillis, timeout));
+    }
+
+    private <T> CompletableFuture<T> call(Function<RequestOptions, CompletableFuture<T>> call) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return CompletableFuture.failedFuture(
+                    new OmdbUnavailableException("OMDB API is unavailable, circuit breaker is open."));
+        }
+
+        // The timeout is enforced on the HTTP request itself, so a timed out request frees its in-flight slot,
+        // and both the timeout and the measured latency start when the request is sent, not while it is queued.
+        long timeoutMillis = getTimeoutMillis();
+        AtomicLong sentNanos = new AtomicLong();
+        RequestOptions options = new RequestOptions(Duration.ofMillis(timeoutMillis),
+                () -> sentNanos.set(System.nanoTime()));
+        CompletableFuture<T> result;
+        try {
+            result = call.apply(options);
+        } catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        return result.handle((value, error) -> {
+            long durationNanos = sentNanos.get() == 0 ? 0 : System.nanoTime() - sentNanos.get();
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error;
+            boolean failed = cause != null && !(cause instanceof NoDataFoundException);
+            circuitBreaker.onResult(failed, durationNanos);
+            if (!failed) {
+                latencies.record(durationNanos);
+            }
+            if (isTimeout(cause)) {
+                log.warn("OMDB call timed out after {} ms.", timeoutMillis);
+                throw new OmdbUnavailableException("OMDB API did not answer within " +
+                        timeoutMillis + " ms.", cause);
+            }
+            if (cause != null) {
+                throw cause instanceof RuntimeException runtimeException
+                        ? runtimeException : new CompletionException(cause);
+            }
+            return value;
+        });
+    }
+
+    private static boolean isTimeout(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof HttpTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
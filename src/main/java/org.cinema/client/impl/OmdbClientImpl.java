@@ -0,0 +1,242 @@
+package org.cinema.client.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.cinema.client.OmdbClient;
+import org.cinema.exception.NoDataFoundException;
+import org.cinema.exception.OmdbApiException;
+import org.cinema.model.MovieAPI;
+import org.cinema.util.ValidationUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * OMDB client on top of {@link HttpClient#sendAsync}.
+ * Responses are handled on a dedicated bounded executor, never on the common pool, and at most
+ * {@code omdb.api.max-in-flight} requests are sent at once; further requests wait in a queue
+ * without blocking the caller.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class OmdbClientImpl implements OmdbClient {
+
+    private static final Set<String> NOT_FOUND_ERRORS = Set.of("Movie not found!", "Incorrect IMDb ID.",
+            "Too many results.");
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${omdb.api.url}")
+    private String baseUrl;
+
+    @Value("${omdb.api.key}")
+    private String apiKey;
+
+    @Value("${omdb.api.connect-timeout-millis:2000}")
+    private long connectTimeoutMillis;
+
+    @Value("${omdb.api.request-timeout-millis:5000}")
+    private long requestTimeoutMillis;
+
+    @Value("${omdb.api.max-in-flight:16}")
+    private int maxInFlight;
+
+    @Value("${omdb.api.executor-threads:4}")
+    private int executorThreads;
+
+    @Value("${omdb.api.executor-queue-capacity:256}")
+    private int executorQueueCapacity;
+
+    private final Queue<Runnable> waitingRequests = new ConcurrentLinkedQueue<>();
+    private ThreadPoolExecutor executor;
+    private HttpClient httpClient;
+    private Semaphore inFlightPermits;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(executorThreads, executorThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(executorQueueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "omdb-client-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        httpClient = HttpClient.newBuilder()
+                .executor(executor)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .build();
+        inFlightPermits = new Semaphore(maxInFlight);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public CompletableFuture<List<String>> searchImdbIds(String title) {
+        return searchImdbIds(title, defaultOptions());
+    }
+
+    @Override
+    public CompletableFuture<MovieAPI> getMovieDetails(String imdbId) {
+        return getMovieDetails(imdbId, defaultOptions());
+    }
+
+    @Override
+    public CompletableFuture<List<String>> searchImdbIds(String title, RequestOptions options) {
+        ValidationUtil.validateNotBlank(title, "movie_title");
+        log.debug("Starting movie search for title: {}", title);
+        return fetch("s", URLEncoder.encode(title, StandardCharsets.UTF_8), options)
+                .thenApply(response -> parseSearchResponse(response, title));
+    }
+
+    @Override
+    public CompletableFuture<MovieAPI> getMovieDetails(String imdbId, RequestOptions options) {
+        ValidationUtil.validateNotBlank(imdbId, "Movie ID");
+        log.debug("Fetching movie details for ID: {}", imdbId);
+        return fetch("i", URLEncoder.encode(imdbId, StandardCharsets.UTF_8), options)
+                .thenApply(response -> parseMovieResponse(response, imdbId));
+    }
+
+    private RequestOptions defaultOptions() {
+        return new RequestOptions(Duration.ofMillis(requestTimeoutMillis), () -> {
+        });
+    }
+
+    /**
+     * Sends a GET request to the OMDB API once an in-flight permit is free.
+     * The timeout of the request only starts when it is sent, and a timed out request gives its permit back.
+     *
+     * @param paramName the name of the parameter (e.g., "s" for search, "i" for movie details)
+     * @param paramValue the URL-encoded value of the parameter
+     * @param options the timeout and send callback of the request
+     * @return a future of the response body
+     */
+    private CompletableFuture<String> fetch(String paramName, String paramValue, RequestOptions options) {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(String.format("%s?%s=%s&apikey=%s", baseUrl, paramName, paramValue, apiKey)))
+                .header("Accept", "application/json")
+                .timeout(options.timeout())
+                .GET()
+                .build();
+
+        CompletableFuture<String> result = new CompletableFuture<>();
+        waitingRequests.add(() -> {
+            options.onSent().run();
+            send(request, result);
+        });
+        drainWaitingRequests();
+        return result;
+    }
+
+    private void send(HttpRequest request, CompletableFuture<String> result) {
+        CompletableFuture<HttpResponse<String>> response;
+        try {
+            response = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+        } catch (RuntimeException e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+        // Completes on the client executor, so the next waiting request is sent from there as well.
+        response.whenComplete((httpResponse, error) -> {
+            inFlightPermits.release();
+            drainWaitingRequests();
+            if (error != null) {
+                log.error("Failed to fetch API response for {}: {}", request.uri().getQuery(), error.getMessage());
+                result.completeExceptionally(new OmdbApiException("Failed to fetch data from OMDB API", error));
+            } else if (httpResponse.statusCode() != 200) {
+                result.completeExceptionally(new OmdbApiException("API request failed with status code: " +
+                        httpResponse.statusCode()));
+            } else {
+                result.complete(httpResponse.body());
+            }
+        });
+    }
+
+    private void drainWaitingRequests() {
+        while (!waitingRequests.isEmpty() && inFlightPermits.tryAcquire()) {
+            Runnable next = waitingRequests.poll();
+            if (next == null) {
+                inFlightPermits.release();
+                return;
+            }
+            next.run();
+        }
+    }
+
+    private List<String> parseSearchResponse(String response, String title) {
+        JsonNode jsonResponse = readTree(response);
+        checkResponse(jsonResponse, "No movies found for the given title: " + title);
+        List<String> imdbIds = new ArrayList<>();
+        for (JsonNode node : jsonResponse.path("Search")) {
+            imdbIds.add(node.path("imdbID").asText());
+        }
+        log.info("Movie search completed for title '{}'. Total movies found: {}", title, imdbIds.size());
+        return imdbIds;
+    }
+
+    private MovieAPI parseMovieResponse(String response, String imdbId) {
+        JsonNode jsonResponse = readTree(response);
+        checkResponse(jsonResponse, "Movie details not found for ID: " + imdbId);
+        MovieAPI movie;
+        try {
+            movie = objectMapper.treeToValue(jsonResponse, MovieAPI.class);
+        } catch (IOException e) {
+            throw new OmdbApiException("Error parsing response from OMDB API", e);
+        }
+        log.debug("Movie details retrieved for ID: {}", imdbId);
+        return movie;
+    }
+
+    /**
+     * Fails a response with {@code "Response": "False"}. Only the errors OMDB gives for a query without results
+     * mean that there is no data; any other error, such as an exhausted quota or an invalid key, is a failure
+     * of the API and must neither be cached nor counted as a successful call.
+     *
+     * @param jsonResponse the parsed response
+     * @param notFoundMessage the message of the {@link NoDataFoundException} for a query without results
+     */
+    private void checkResponse(JsonNode jsonResponse, String notFoundMessage) {
+        if ("True".equalsIgnoreCase(jsonResponse.path("Response").asText())) {
+            return;
+        }
+        String error = jsonResponse.path("Error").asText();
+        if (NOT_FOUND_ERRORS.contains(error)) {
+            log.info("OMDB has no data: {}", notFoundMessage);
+            throw new NoDataFoundException(notFoundMessage);
+        }
+        log.error("OMDB API returned an error: {}", error);
+        throw new OmdbApiException("OMDB API error: " + error);
+    }
+
+    private JsonNode readTree(String response) {
+        try {
+            return objectMapper.readTree(response);
+        } catch (IOException e) {
+            throw new OmdbApiException("Failed to process movie search data", e);
+        }
+    }
+}
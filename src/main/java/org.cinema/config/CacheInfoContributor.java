@@ -0,0 +1,38 @@
+package org.cinema.config;
+
+import lombok.RequiredArgsConstructor;
+import org.cinema.client.impl.CachingOmdbClient;
+import org.cinema.service.ScheduleCacheService;
+import org.cinema.util.LruTtlCache;
+import org.springframework.boot.actuate.info.Info;
+import org.springframework.boot.actuate.info.InfoContributor;
+import org.springframework.stereotype.Component;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class CacheInfoContributor implements InfoContributor {
+
+    private final ScheduleCacheService scheduleCacheService;
+    private final CachingOmdbClient cachingOmdbClient;
+
+    @Override
+    public void contribute(Info.Builder builder) {
+        Map<String, Object> cacheDetails = new LinkedHashMap<>();
+        cacheDetails.put("schedule", toDetails(scheduleCacheService.getStats()));
+        cachingOmdbClient.getStats().forEach((name, stats) -> cacheDetails.put(name, toDetails(stats)));
+        builder.withDetail("caches", cacheDetails);
+    }
+
+    private Map<String, Object> toDetails(LruTtlCache.Stats stats) {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("size", stats.size());
+        details.put("maxSize", stats.maxSize());
+        details.put("hits", stats.hits());
+        details.put("misses", stats.misses());
+        details.put("evictions", stats.evictions());
+        details.put("hitRate", stats.hitRate());
+        return details;
+    }
+}
@@ -0,0 +1,36 @@
+package org.cinema.config;
+
+import lombok.RequiredArgsConstructor;
+import org.cinema.client.impl.CircuitBreakingOmdbClient;
+import org.cinema.util.CircuitBreaker;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports the circuit breaker of the OMDB client as the "omdb" health component.
+ * An open breaker is reported as DEGRADED, which does not take the application down: movie searches
+ * still answer from the database.
+ */
+@Component
+@RequiredArgsConstructor
+public class OmdbHealthIndicator implements HealthIndicator {
+
+    private static final Status DEGRADED = new Status("DEGRADED", "OMDB calls are rejected by the circuit breaker");
+
+    private final CircuitBreakingOmdbClient circuitBreakingOmdbClient;
+
+    @Override
+    public Health health() {
+        CircuitBreaker.Metrics metrics = circuitBreakingOmdbClient.getMetrics();
+        Health.Builder builder = metrics.state() == CircuitBreaker.State.OPEN ? Health.status(DEGRADED) : Health.up();
+        return builder
+                .withDetail("state", metrics.state())
+                .withDetail("calls", metrics.calls())
+                .withDetail("failureRate", metrics.failureRate())
+                .withDetail("slowCallRate", metrics.slowCallRate())
+                .withDetail("timeoutMillis", circuitBreakingOmdbClient.getTimeoutMillis())
+                .build();
+    }
+}
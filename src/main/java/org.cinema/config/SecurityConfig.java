@@ -1,5 +1,6 @@
 package org.cinema.config;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.cinema.security.JwtAuthenticationFilter;
 import org.cinema.service.impl.CustomUserDetailsServiceImpl;
@@ -34,6 +35,7 @@ public class SecurityConfig {
         http.csrf(AbstractHttpConfigurer::disable)
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/auth/**", "/swagger-ui/**", "/swagger-resources/*",
                                 "/v3/api-docs/**","/actuator/**").permitAll()
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
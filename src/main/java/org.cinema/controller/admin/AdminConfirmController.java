@@ -6,11 +6,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.cinema.constants.ParamConstant;
+import org.cinema.dto.ticketDTO.TicketBulkActionDTO;
+import org.cinema.dto.ticketDTO.TicketFilterDTO;
 import org.cinema.handler.ErrorHandler;
 import org.cinema.service.TicketService;
 import org.cinema.util.ValidationUtil;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import java.time.LocalDate;
 
 @Slf4j
 @RestController
@@ -36,6 +40,44 @@ public class AdminConfirmController {
         }
     }
 
+    @Operation(summary = "Get a page of tickets",
+            description = "Retrieves tickets ordered by ID after the given ID, optionally filtered.")
+    @GetMapping("/page")
+    public ResponseEntity<?> getTicketPage(
+            @Parameter(description = "ID of the last ticket of the previous page")
+            @RequestParam(required = false) Long afterId,
+            @Parameter(description = "Number of tickets per page (max 200)")
+            @RequestParam(required = false) Integer size,
+            @Parameter(description = "Ticket status (PENDING/CONFIRMED/CANCELLED/RETURNED)")
+            @RequestParam(required = false) String status,
+            @Parameter(description = "Request type (PURCHASE/RETURN)")
+            @RequestParam(required = false) String requestType,
+            @Parameter(description = "Film session ID")
+            @RequestParam(required = false) Long sessionId,
+            @Parameter(description = "Purchased on or after this date", example = "2025-02-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Purchased on or before this date", example = "2025-02-28")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.debug("Fetching ticket page after id {}...", afterId);
+
+        try {
+            TicketFilterDTO filter = TicketFilterDTO.builder()
+                    .afterId(afterId)
+                    .size(size)
+                    .status(status)
+                    .requestType(requestType)
+                    .sessionId(sessionId)
+                    .from(from)
+                    .to(to)
+                    .build();
+            return ResponseEntity.ok(ticketService.findPage(filter));
+        } catch (Exception e) {
+            String errorMessage = ErrorHandler.resolveErrorMessage(e);
+            log.error(errorMessage);
+            return ResponseEntity.internalServerError().body(errorMessage);
+        }
+    }
+
     @Operation(summary = "Process ticket action", description = "Processes an action on a specific ticket (e.g., approve, reject).")
     @PostMapping("/{action}")
     public ResponseEntity<?> handleTicketAction(
@@ -60,4 +102,23 @@ public class AdminConfirmController {
             return ResponseEntity.internalServerError().body(errorMessage);
         }
     }
+
+    @Operation(summary = "Process ticket action in bulk",
+            description = "Processes an action on a list of tickets and returns the outcome for each ticket.")
+    @PostMapping("/bulk/{action}")
+    public ResponseEntity<?> handleBulkTicketAction(
+            @Parameter(description = "Action to perform (confirm/cancel/return)", required = true)
+            @PathVariable String action,
+            @RequestBody TicketBulkActionDTO bulkActionDTO) {
+        log.debug("Processing bulk action '{}'...", action);
+
+        try {
+            ValidationUtil.validateNotBlank(action, "Action");
+            return ResponseEntity.ok(ticketService.processTicketActions(action, bulkActionDTO.getTicketIds()));
+        } catch (Exception e) {
+            String errorMessage = ErrorHandler.resolveErrorMessage(e);
+            log.error(errorMessage);
+            return ResponseEntity.internalServerError().body(errorMessage);
+        }
+    }
 }
@@ -6,6 +6,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.cinema.dto.filmSessionDTO.FilmSessionCreateDTO;
+import org.cinema.dto.filmSessionDTO.FilmSessionScheduleDTO;
 import org.cinema.dto.filmSessionDTO.FilmSessionUpdateDTO;
 import org.cinema.handler.ErrorHandler;
 import org.cinema.service.SessionService;
@@ -68,6 +69,22 @@ public class AdminSessionController {
         }
     }
 
+    @Operation(summary = "Schedule recurring film sessions",
+            description = "Creates a film session for every start time on every selected weekday of the date range.")
+    @PostMapping("/schedule")
+    public ResponseEntity<?> scheduleSessions(
+            @Valid @RequestBody FilmSessionScheduleDTO scheduleDTO) {
+        log.debug("Scheduling film sessions ...");
+
+        try {
+            return ResponseEntity.ok(sessionService.schedule(scheduleDTO));
+        } catch (Exception e) {
+            String errorMessage = ErrorHandler.resolveErrorMessage(e);
+            log.error(errorMessage);
+            return ResponseEntity.internalServerError().body(errorMessage);
+        }
+    }
+
     @Operation(summary = "Edit an existing film session", description = "Updates the details of an existing film session.")
     @PutMapping("/edit")
     public ResponseEntity<?> editSession(
@@ -9,9 +9,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.cinema.dto.ticketDTO.TicketCreateDTO;
 import org.cinema.dto.ticketDTO.TicketUpdateDTO;
 import org.cinema.handler.ErrorHandler;
+import org.cinema.model.ExportFormat;
+import org.cinema.service.TicketExportService;
 import org.cinema.service.TicketService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Slf4j
 @RestController
@@ -22,6 +27,7 @@ import org.springframework.web.bind.annotation.*;
 public class AdminTicketController {
 
     private final TicketService ticketService;
+    private final TicketExportService ticketExportService;
 
     @Operation(summary = "Get all tickets", description = "Retrieves a list of all available tickets.")
     @GetMapping
@@ -37,6 +43,29 @@ public class AdminTicketController {
         }
     }
 
+    @Operation(summary = "Export all tickets",
+            description = "Streams all tickets ordered by ID as newline-delimited JSON or CSV.")
+    @GetMapping("/export")
+    public ResponseEntity<?> exportTickets(
+            @Parameter(description = "Export format (ndjson/csv)")
+            @RequestParam(defaultValue = "ndjson") String format) {
+        log.debug("Exporting all tickets as {}...", format);
+
+        try {
+            ExportFormat exportFormat = ExportFormat.fromValue(format);
+            StreamingResponseBody body = outputStream -> ticketExportService.export(exportFormat, outputStream);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                    .header(HttpHeaders.CONTENT_DISPOSITION,
+                            "attachment; filename=\"tickets." + exportFormat.getValue() + "\"")
+                    .body(body);
+        } catch (Exception e) {
+            String errorMessage = ErrorHandler.resolveErrorMessage(e);
+            log.error(errorMessage);
+            return ResponseEntity.internalServerError().body(errorMessage);
+        }
+    }
+
     @Operation(summary = "Get ticket by ID", description = "Retrieves a ticket by its unique ID.")
     @GetMapping("/{ticketId}")
     public ResponseEntity<?> getTicketById(
@@ -6,15 +6,30 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.cinema.dto.filmSessionDTO.FilmSessionFilterDTO;
 import org.cinema.dto.filmSessionDTO.FilmSessionResponseDTO;
+import org.cinema.dto.ticketDTO.TicketBatchPurchaseDTO;
 import org.cinema.dto.ticketDTO.TicketCreateDTO;
+import org.cinema.model.SeatMapFormat;
 import org.cinema.handler.ErrorHandler;
+import org.cinema.service.ResourceVersionService;
+import org.cinema.service.SeatEventService;
 import org.cinema.service.SessionService;
 import org.cinema.service.TicketService;
 import org.cinema.service.UserService;
+import org.cinema.util.ETagUtil;
+import org.cinema.util.ValidationUtil;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 
 @Slf4j
@@ -28,10 +43,13 @@ public class TicketPurchaseController {
     private final TicketService ticketService;
     private final SessionService sessionService;
     private final UserService userService;
+    private final ResourceVersionService resourceVersionService;
+    private final SeatEventService seatEventService;
 
     @Operation(
             summary = "Get film sessions",
-            description = "Fetches a list of film sessions. If a date is provided, it filters the sessions by that date."
+            description = "Fetches a list of film sessions. If a date is provided, it filters the sessions by that date, " +
+                    "otherwise or if that date has no sessions, the first page of upcoming sessions is returned."
     )
     @GetMapping
     public ResponseEntity<?> getFilmSessions(
@@ -41,20 +59,70 @@ public class TicketPurchaseController {
                     example = "2025-02-15",
                     required = false
             )
-            @RequestParam(required = false) String date) {
+            @RequestParam(required = false) String date,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
         log.debug("Fetching film sessions...");
 
         try {
+            String eTag = StringUtils.isBlank(date)
+                    ? resourceVersionService.getUpcomingETag()
+                    : resourceVersionService.getScheduleETag(LocalDate.parse(date));
+            if (ETagUtil.matches(ifNoneMatch, eTag)) {
+                return notModified(eTag);
+            }
+
             List<FilmSessionResponseDTO> filmSessions = StringUtils.isBlank(date)
-                    ? sessionService.findAll()
+                    ? findUpcomingSessions()
                     : sessionService.findByDate(date);
 
             if (filmSessions.isEmpty() && StringUtils.isNotBlank(date)) {
-                log.warn("No film sessions found for the selected date: {}. Returning all sessions.", date);
-                filmSessions = sessionService.findAll();
+                log.warn("No film sessions found for the selected date: {}. Returning upcoming sessions.", date);
+                return ResponseEntity.ok(findUpcomingSessions());
             }
-            return ResponseEntity.ok(filmSessions);
+            return ResponseEntity.ok().eTag(eTag).cacheControl(CacheControl.noCache()).body(filmSessions);
+        } catch (Exception e) {
+            String errorMessage = ErrorHandler.resolveErrorMessage(e);
+            log.error(errorMessage);
+            return ResponseEntity.internalServerError().body(errorMessage);
+        }
+    }
+
+    @Operation(
+            summary = "Get upcoming film sessions",
+            description = "Fetches a page of film sessions that have not started yet, ordered by date and start time. " +
+                    "Pass the next* values of a page as after* parameters to fetch the following page."
+    )
+    @GetMapping("/upcoming")
+    public ResponseEntity<?> getUpcomingSessions(
+            @Parameter(description = "First date of the range", example = "2025-02-15")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last date of the range", example = "2025-02-28")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Date of the last session of the previous page")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate afterDate,
+            @Parameter(description = "Start time of the last session of the previous page", example = "18:30:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime afterStartTime,
+            @Parameter(description = "ID of the last session of the previous page")
+            @RequestParam(required = false) Long afterId,
+            @Parameter(description = "Number of sessions per page (max 200)")
+            @RequestParam(required = false) Integer size,
+            @Parameter(description = "Whether to skip sold-out sessions")
+            @RequestParam(defaultValue = "false") boolean availableOnly) {
+
+        log.debug("Fetching upcoming film sessions...");
+
+        try {
+            FilmSessionFilterDTO filter = FilmSessionFilterDTO.builder()
+                    .from(from)
+                    .to(to)
+                    .afterDate(afterDate)
+                    .afterStartTime(afterStartTime)
+                    .afterId(afterId)
+                    .size(size)
+                    .availableOnly(availableOnly)
+                    .build();
+            return ResponseEntity.ok(sessionService.findUpcoming(filter));
         } catch (Exception e) {
             String errorMessage = ErrorHandler.resolveErrorMessage(e);
             log.error(errorMessage);
@@ -73,13 +141,26 @@ public class TicketPurchaseController {
                     description = "The ID of the session to fetch details for",
                     required = true
             )
-            @PathVariable String sessionId) {
+            @PathVariable String sessionId,
+            @Parameter(
+                    name = "seatFormat",
+                    description = "Format of the taken seats: list (takenSeats array), bitset (takenSeatsBitset, " +
+                            "base64, seat n is bit n % 8 of byte n / 8) or ranges (takenSeatRanges, e.g. 1-120,125)"
+            )
+            @RequestParam(defaultValue = "list") String seatFormat,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
         log.debug("Fetching session details for sessionId: {}...", sessionId);
 
         try {
-            FilmSessionResponseDTO selectedSession = ticketService.getSessionDetailsWithTickets(sessionId);
-            return ResponseEntity.ok(selectedSession);
+            SeatMapFormat format = SeatMapFormat.fromValue(seatFormat);
+            String eTag = resourceVersionService.getSessionETag(ValidationUtil.parseLong(sessionId), format.getValue());
+            if (ETagUtil.matches(ifNoneMatch, eTag)) {
+                return notModified(eTag);
+            }
+
+            FilmSessionResponseDTO selectedSession = ticketService.getSessionDetailsWithTickets(sessionId, format);
+            return ResponseEntity.ok().eTag(eTag).cacheControl(CacheControl.noCache()).body(selectedSession);
         } catch (Exception e) {
             String errorMessage = ErrorHandler.resolveErrorMessage(e);
             log.error(errorMessage);
@@ -114,4 +195,68 @@ public class TicketPurchaseController {
             return ResponseEntity.internalServerError().body(errorMessage);
         }
     }
+
+    @Operation(
+            summary = "Purchase several tickets",
+            description = "Allows the user to purchase several seats of one session in a single request."
+    )
+    @PostMapping("/batch")
+    public ResponseEntity<?> purchaseTickets(
+            Authentication authentication,
+            @Parameter(
+                    name = "batchPurchaseDTO",
+                    description = "Session and seat numbers to be purchased"
+            )
+            @RequestBody TicketBatchPurchaseDTO batchPurchaseDTO) {
+
+        String username = authentication.getName();
+        log.debug("Processing batch ticket purchase for user: {}...", username);
+
+        try {
+            Long userId = userService.findByUsername(username).getId();
+            batchPurchaseDTO.setUserId(userId);
+            String message = ticketService.purchaseTickets(batchPurchaseDTO);
+            return ResponseEntity.ok(message);
+        } catch (Exception e) {
+            String errorMessage = ErrorHandler.resolveErrorMessage(e);
+            log.error(errorMessage);
+            return ResponseEntity.internalServerError().body(errorMessage);
+        }
+    }
+
+    @Operation(
+            summary = "Stream seat availability",
+            description = "Streams Server-Sent Events for a session: a SNAPSHOT of the taken seats first, then TAKEN " +
+                    "and RELEASED events with the changed seats as tickets are committed, and RESYNC when the seat " +
+                    "map has to be reloaded."
+    )
+    @GetMapping(value = "/{sessionId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<?> streamSeatEvents(
+            @Parameter(
+                    name = "sessionId",
+                    description = "The ID of the session to stream seat events for",
+                    required = true
+            )
+            @PathVariable String sessionId) {
+
+        log.debug("Subscribing to seat events for sessionId: {}...", sessionId);
+
+        try {
+            SseEmitter emitter = seatEventService.subscribe(ValidationUtil.parseLong(sessionId),
+                    () -> ticketService.getSessionDetailsWithTickets(sessionId).getTakenSeats());
+            return ResponseEntity.ok(emitter);
+        } catch (Exception e) {
+            String errorMessage = ErrorHandler.resolveErrorMessage(e);
+            log.error(errorMessage);
+            return ResponseEntity.internalServerError().body(errorMessage);
+        }
+    }
+
+    private ResponseEntity<?> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(CacheControl.noCache()).build();
+    }
+
+    private List<FilmSessionResponseDTO> findUpcomingSessions() {
+        return sessionService.findUpcoming(FilmSessionFilterDTO.builder().build()).getSessions();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package org.cinema.dto.filmSessionDTO;
+
+import lombok.Builder;
+import lombok.Data;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Data
+@Builder
+public class FilmSessionFilterDTO {
+    private LocalDate from;
+    private LocalDate to;
+    private LocalDate afterDate;
+    private LocalTime afterStartTime;
+    private Long afterId;
+    private Integer size;
+    private boolean availableOnly;
+}
@@ -0,0 +1,17 @@
+package org.cinema.dto.filmSessionDTO;
+
+import lombok.Builder;
+import lombok.Data;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+@Data
+@Builder
+public class FilmSessionPageDTO {
+    private List<FilmSessionResponseDTO> sessions;
+    private LocalDate nextAfterDate;
+    private LocalTime nextAfterStartTime;
+    private Long nextAfterId;
+    private boolean hasMore;
+}
@@ -1,5 +1,6 @@
 package org.cinema.dto.filmSessionDTO;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Data;
 import java.math.BigDecimal;
@@ -18,5 +19,15 @@ public class FilmSessionResponseDTO {
     private LocalTime startTime;
     private LocalTime endTime;
     private int capacity;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer heldSeats;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer soldSeats;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer availableSeats;
     private List<Integer> takenSeats;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String takenSeatsBitset;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String takenSeatRanges;
 }
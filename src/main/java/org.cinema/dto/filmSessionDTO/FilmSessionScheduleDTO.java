@@ -0,0 +1,22 @@
+package org.cinema.dto.filmSessionDTO;
+
+import lombok.Builder;
+import lombok.Data;
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+@Data
+@Builder
+public class FilmSessionScheduleDTO {
+    private Long movieId;
+    private BigDecimal price;
+    private Integer capacity;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private List<DayOfWeek> daysOfWeek;
+    private List<LocalTime> startTimes;
+    private Integer durationMinutes;
+}
@@ -7,6 +7,7 @@ import lombok.Data;
 @Builder
 public class MovieResponseDTO {
     private Long id;
+    private String imdbId;
     private String title;
     private String year;
     private String poster;
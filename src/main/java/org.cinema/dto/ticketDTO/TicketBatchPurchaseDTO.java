@@ -0,0 +1,13 @@
+package org.cinema.dto.ticketDTO;
+
+import lombok.Builder;
+import lombok.Data;
+import java.util.List;
+
+@Data
+@Builder
+public class TicketBatchPurchaseDTO {
+    private Long userId;
+    private Long sessionId;
+    private List<Integer> seatNumbers;
+}
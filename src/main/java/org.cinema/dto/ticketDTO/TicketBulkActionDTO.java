@@ -0,0 +1,11 @@
+package org.cinema.dto.ticketDTO;
+
+import lombok.Builder;
+import lombok.Data;
+import java.util.List;
+
+@Data
+@Builder
+public class TicketBulkActionDTO {
+    private List<Long> ticketIds;
+}
@@ -0,0 +1,15 @@
+package org.cinema.dto.ticketDTO;
+
+import lombok.Builder;
+import lombok.Data;
+import java.util.Map;
+
+@Data
+@Builder
+public class TicketBulkActionResultDTO {
+    private String action;
+    private int succeeded;
+    private int rejected;
+    private int notFound;
+    private Map<Long, String> results;
+}
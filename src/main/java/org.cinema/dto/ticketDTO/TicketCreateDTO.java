@@ -8,7 +8,7 @@ import lombok.Data;
 public class TicketCreateDTO {
     private Long userId;
     private Long sessionId;
-    private String seatNumber;
+    private Integer seatNumber;
     private String status;
     private String requestType;
 }
@@ -0,0 +1,17 @@
+package org.cinema.dto.ticketDTO;
+
+import lombok.Builder;
+import lombok.Data;
+import java.time.LocalDate;
+
+@Data
+@Builder
+public class TicketFilterDTO {
+    private Long afterId;
+    private Integer size;
+    private String status;
+    private String requestType;
+    private Long sessionId;
+    private LocalDate from;
+    private LocalDate to;
+}
@@ -0,0 +1,13 @@
+package org.cinema.dto.ticketDTO;
+
+import lombok.Builder;
+import lombok.Data;
+import java.util.List;
+
+@Data
+@Builder
+public class TicketPageDTO {
+    private List<TicketResponseDTO> tickets;
+    private Long nextAfterId;
+    private boolean hasMore;
+}
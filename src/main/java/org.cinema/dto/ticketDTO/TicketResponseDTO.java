@@ -13,7 +13,7 @@ public class TicketResponseDTO {
     private String username;
     private FilmSessionResponseDTO filmSession;
     private String movieTitle;
-    private String seatNumber;
+    private Integer seatNumber;
     private LocalDateTime purchaseTime;
     private String status;
     private String requestType;
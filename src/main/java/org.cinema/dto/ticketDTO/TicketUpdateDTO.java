@@ -9,7 +9,7 @@ public class TicketUpdateDTO {
     private Long id;
     private Long userId;
     private Long sessionId;
-    private String seatNumber;
+    private Integer seatNumber;
     private String status;
     private String requestType;
 }
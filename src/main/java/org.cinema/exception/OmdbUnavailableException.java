@@ -0,0 +1,11 @@
+package org.cinema.exception;
+
+public class OmdbUnavailableException extends OmdbApiException {
+  public OmdbUnavailableException(String message, Throwable cause) {
+    super(message, cause);
+  }
+
+  public OmdbUnavailableException(String message) {
+    super(message);
+  }
+}
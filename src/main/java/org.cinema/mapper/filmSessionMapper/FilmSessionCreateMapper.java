@@ -3,6 +3,7 @@ package org.cinema.mapper.filmSessionMapper;
 import org.cinema.dto.filmSessionDTO.FilmSessionCreateDTO;
 import org.cinema.model.FilmSession;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
 import java.util.Map;
 
@@ -11,5 +12,7 @@ public interface FilmSessionCreateMapper {
     FilmSessionCreateMapper INSTANCE = Mappers.getMapper(FilmSessionCreateMapper.class);
 
     FilmSessionCreateDTO toDTO(Map<String, String> params);
+    @Mapping(target = "heldSeats", ignore = true)
+    @Mapping(target = "soldSeats", ignore = true)
     FilmSession toEntity(FilmSessionCreateDTO filmSessionCreateDTO);
 }
@@ -12,5 +12,10 @@ public interface FilmSessionResponseMapper {
 
     @Mapping(target = "movieId", source = "movie.id")
     @Mapping(target = "movieTitle", source = "movie.title")
+    @Mapping(target = "availableSeats", expression = "java(filmSession.getCapacity() - filmSession.getHeldSeats() " +
+            "- filmSession.getSoldSeats())")
+    @Mapping(target = "takenSeats", ignore = true)
+    @Mapping(target = "takenSeatsBitset", ignore = true)
+    @Mapping(target = "takenSeatRanges", ignore = true)
     FilmSessionResponseDTO toDTO(FilmSession filmSession);
 }
@@ -13,5 +13,7 @@ public interface FilmSessionUpdateMapper {
     FilmSessionUpdateMapper INSTANCE = Mappers.getMapper(FilmSessionUpdateMapper.class);
 
     FilmSessionUpdateDTO toDTO(Map<String, String> params);
+    @Mapping(target = "heldSeats", ignore = true)
+    @Mapping(target = "soldSeats", ignore = true)
     FilmSession toEntity(FilmSessionUpdateDTO filmSessionUpdateDTO);
 }
@@ -0,0 +1,18 @@
+package org.cinema.mapper.filmSessionMapper;
+
+import org.cinema.dto.filmSessionDTO.FilmSessionResponseDTO;
+import org.cinema.repository.projection.FilmSessionView;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface FilmSessionViewMapper {
+    FilmSessionViewMapper INSTANCE = Mappers.getMapper(FilmSessionViewMapper.class);
+
+    @Mapping(target = "takenSeats", ignore = true)
+    @Mapping(target = "takenSeatsBitset", ignore = true)
+    @Mapping(target = "takenSeatRanges", ignore = true)
+    @Mapping(target = "availableSeats", expression = "java(view.capacity() - view.heldSeats() - view.soldSeats())")
+    FilmSessionResponseDTO toDTO(FilmSessionView view);
+}
@@ -10,5 +10,5 @@ public interface TicketCreateMapper {
     TicketCreateMapper INSTANCE = Mappers.getMapper(TicketCreateMapper.class);
 
     Ticket toEntity(TicketCreateDTO createDTO);
-    TicketCreateDTO toDTO(Long userId, Long sessionId, String seatNumber);
+    TicketCreateDTO toDTO(Long userId, Long sessionId, Integer seatNumber);
 }
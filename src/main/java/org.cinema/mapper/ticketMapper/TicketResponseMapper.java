@@ -1,6 +1,8 @@
 package org.cinema.mapper.ticketMapper;
 
+import org.cinema.dto.filmSessionDTO.FilmSessionResponseDTO;
 import org.cinema.dto.ticketDTO.TicketResponseDTO;
+import org.cinema.model.FilmSession;
 import org.cinema.model.Ticket;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -16,5 +18,15 @@ public interface TicketResponseMapper {
     @Mapping(target = "movieTitle", source = "filmSession.movie.title")
     TicketResponseDTO toDTO(Ticket ticket);
 
+    @Mapping(target = "movieId", source = "movie.id")
+    @Mapping(target = "movieTitle", source = "movie.title")
+    @Mapping(target = "heldSeats", ignore = true)
+    @Mapping(target = "soldSeats", ignore = true)
+    @Mapping(target = "availableSeats", ignore = true)
+    @Mapping(target = "takenSeats", ignore = true)
+    @Mapping(target = "takenSeatsBitset", ignore = true)
+    @Mapping(target = "takenSeatRanges", ignore = true)
+    FilmSessionResponseDTO toFilmSessionDTO(FilmSession filmSession);
+
     Ticket toEntity(TicketResponseDTO createDTO);
 }
\ No newline at end of file
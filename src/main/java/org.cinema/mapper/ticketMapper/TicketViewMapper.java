@@ -0,0 +1,25 @@
+package org.cinema.mapper.ticketMapper;
+
+import org.cinema.dto.filmSessionDTO.FilmSessionResponseDTO;
+import org.cinema.dto.ticketDTO.TicketResponseDTO;
+import org.cinema.repository.projection.TicketView;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface TicketViewMapper {
+    TicketViewMapper INSTANCE = Mappers.getMapper(TicketViewMapper.class);
+
+    @Mapping(target = "filmSession", source = "view")
+    TicketResponseDTO toDTO(TicketView view);
+
+    @Mapping(target = "id", source = "sessionId")
+    @Mapping(target = "heldSeats", ignore = true)
+    @Mapping(target = "soldSeats", ignore = true)
+    @Mapping(target = "availableSeats", ignore = true)
+    @Mapping(target = "takenSeats", ignore = true)
+    @Mapping(target = "takenSeatsBitset", ignore = true)
+    @Mapping(target = "takenSeatRanges", ignore = true)
+    FilmSessionResponseDTO toFilmSessionDTO(TicketView view);
+}
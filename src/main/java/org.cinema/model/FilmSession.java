@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -16,10 +17,12 @@ import java.time.LocalTime;
 public class FilmSession {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "film_session_id_generator")
+    @TableGenerator(name = "film_session_id_generator", table = "id_generator", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "film_session", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "movie_id", nullable = false)
     private Movie movie;
 
@@ -37,5 +40,14 @@ public class FilmSession {
 
     @Column(nullable = false)
     private int capacity;
+
+    // Maintained only by SeatCounterService with increment/decrement statements, never written from the entity.
+    @ColumnDefault("0")
+    @Column(name = "held_seats", nullable = false, insertable = false, updatable = false)
+    private int heldSeats;
+
+    @ColumnDefault("0")
+    @Column(name = "sold_seats", nullable = false, insertable = false, updatable = false)
+    private int soldSeats;
 }
 
@@ -12,6 +12,9 @@ public class Movie {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Column(name = "imdb_id", unique = true, length = 20)
+    private String imdbId;
+
     @Column(nullable = false)
     private String title;
 
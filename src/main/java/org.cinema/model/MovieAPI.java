@@ -12,6 +12,9 @@ import lombok.NoArgsConstructor;
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class MovieAPI {
 
+    @JsonProperty("imdbID")
+    private String imdbId;
+
     @JsonProperty("Title")
     private String title;
 
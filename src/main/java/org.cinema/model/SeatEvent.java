@@ -0,0 +1,15 @@
+package org.cinema.model;
+
+import java.util.List;
+
+/**
+ * Change of the seat availability of a film session, pushed to subscribed clients.
+ * {@code SNAPSHOT} carries all taken seats, {@code TAKEN} and {@code RELEASED} carry the changed seats,
+ * and {@code RESYNC} tells clients to reload the seat map.
+ */
+public record SeatEvent(Type type, Long sessionId, List<Integer> seats) {
+
+    public enum Type {
+        SNAPSHOT, TAKEN, RELEASED, RESYNC
+    }
+}
@@ -0,0 +1,9 @@
+package org.cinema.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * A pending purchase that keeps a seat of a film session reserved until it is confirmed or expires.
+ */
+public record SeatHold(Long ticketId, Long sessionId, int seatNumber, LocalDateTime purchaseTime) {
+}
@@ -0,0 +1,23 @@
+package org.cinema.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum SeatMapFormat {
+    LIST("list"),
+    BITSET("bitset"),
+    RANGES("ranges");
+
+    private final String value;
+
+    public static SeatMapFormat fromValue(String value) {
+        for (SeatMapFormat format : values()) {
+            if (format.value.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unknown seat map format: " + value);
+    }
+}
@@ -14,19 +14,21 @@ import java.time.LocalDateTime;
 public class Ticket {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "ticket_id_generator")
+    @TableGenerator(name = "ticket_id_generator", table = "id_generator", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "ticket", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "session_id", nullable = false)
     private FilmSession filmSession;
 
-    @Column(name = "seat_number", nullable = false, length = 10)
-    private String seatNumber;
+    @Column(name = "seat_number", nullable = false)
+    private Integer seatNumber;
 
     @Column(name = "purchase_time")
     private LocalDateTime purchaseTime;
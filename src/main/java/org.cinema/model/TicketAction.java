@@ -0,0 +1,65 @@
+package org.cinema.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Transition table of the ticket actions.
+ * Each action moves a ticket out of the given source statuses and request types either to a new
+ * status or to a new request type; any other ticket state rejects the action.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TicketAction {
+    CONFIRM("confirm", Set.of(Status.PENDING), Set.of(RequestType.PURCHASE),
+            Status.CONFIRMED, null, "Success! Ticket Confirmed!", "Invalid action for this ticket."),
+    CANCEL("cancel", Set.of(Status.PENDING), Set.of(RequestType.PURCHASE, RequestType.RETURN),
+            Status.CANCELLED, null, "Success! Ticket Cancelled!", "Invalid action for this ticket."),
+    RETURN("return", Set.of(Status.PENDING, Status.CONFIRMED), Set.of(RequestType.RETURN),
+            Status.RETURNED, null, "Success! Ticket Returned!", "Invalid action for this ticket."),
+    RETURN_MY_TICKET("returnMyTicket", Set.of(Status.PENDING), Set.of(RequestType.PURCHASE, RequestType.RETURN),
+            null, RequestType.RETURN, "Success! Ticket Returned!", "Ticket cannot be returned.");
+
+    private final String value;
+    private final Set<Status> sourceStatuses;
+    private final Set<RequestType> sourceRequestTypes;
+    private final Status targetStatus;
+    private final RequestType targetRequestType;
+    private final String successMessage;
+    private final String rejectedMessage;
+
+    /**
+     * Checks whether the action frees the seat of the ticket.
+     *
+     * @return true if the target status no longer occupies a seat.
+     */
+    public boolean releasesSeat() {
+        return targetStatus == Status.CANCELLED || targetStatus == Status.RETURNED;
+    }
+
+    /**
+     * Checks whether the action can be applied to a ticket in the given state.
+     *
+     * @param status the current status of the ticket.
+     * @param requestType the current request type of the ticket.
+     * @return true if the state is one of the source states of the action.
+     */
+    public boolean appliesTo(Status status, RequestType requestType) {
+        return sourceStatuses.contains(status) && sourceRequestTypes.contains(requestType);
+    }
+
+    /**
+     * Finds the action by its request value.
+     *
+     * @param value the action value (e.g., "confirm").
+     * @return the matching action, or null if the value is unknown.
+     */
+    public static TicketAction fromValue(String value) {
+        return Arrays.stream(values())
+                .filter(action -> action.value.equals(value))
+                .findFirst()
+                .orElse(null);
+    }
+}
@@ -3,6 +3,7 @@ package org.cinema.repository;
 import org.cinema.model.Movie;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -11,7 +12,7 @@ import java.util.List;
  * as well as finding movies by specific criteria.
  */
 @Repository
-public interface MovieRepository extends JpaRepository<Movie, Long> {
+public interface MovieRepository extends JpaRepository<Movie, Long>, MovieRepositoryCustom {
 
     /**
      * Finds movies with a title containing the specified string, case-insensitive.
@@ -20,4 +21,12 @@ public interface MovieRepository extends JpaRepository<Movie, Long> {
      * @return a {@link List} of {@link Movie} entities matching the title.
      */
     List<Movie> findByTitleContainingIgnoreCase(String title);
+
+    /**
+     * Finds the movies with the given IMDb IDs.
+     *
+     * @param imdbIds the IMDb IDs of the movies.
+     * @return a {@link List} of the stored {@link Movie} entities, in no particular order.
+     */
+    List<Movie> findByImdbIdIn(Collection<String> imdbIds);
 }
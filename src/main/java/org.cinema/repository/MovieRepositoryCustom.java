@@ -0,0 +1,19 @@
+package org.cinema.repository;
+
+import org.cinema.model.Movie;
+import java.util.Collection;
+
+/**
+ * Custom batch operations of the {@link MovieRepository}.
+ */
+public interface MovieRepositoryCustom {
+
+    /**
+     * Inserts the given movies, or updates the stored movie with the same IMDb ID, in one batch.
+     * Movies without an IMDb ID are skipped.
+     *
+     * @param movies the movies to store.
+     * @return the number of movies sent to the database.
+     */
+    int upsertAllByImdbId(Collection<Movie> movies);
+}
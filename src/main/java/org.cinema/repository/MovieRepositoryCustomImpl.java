@@ -0,0 +1,46 @@
+package org.cinema.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.cinema.model.Movie;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+@RequiredArgsConstructor
+public class MovieRepositoryCustomImpl implements MovieRepositoryCustom {
+
+    // With rewriteBatchedStatements the driver sends the whole batch as one multi-row INSERT.
+    private static final String UPSERT_SQL = "INSERT INTO `movies` " +
+            "(`imdb_id`, `title`, `year`, `poster`, `plot`, `genre`, `imdb_rating`, `runtime`) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?) AS `new` " +
+            "ON DUPLICATE KEY UPDATE `title` = `new`.`title`, `year` = `new`.`year`, " +
+            "`poster` = `new`.`poster`, `plot` = `new`.`plot`, `genre` = `new`.`genre`, " +
+            "`imdb_rating` = `new`.`imdb_rating`, `runtime` = `new`.`runtime`";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public int upsertAllByImdbId(Collection<Movie> movies) {
+        List<Movie> identifiedMovies = movies.stream()
+                .filter(movie -> Objects.nonNull(movie.getImdbId()))
+                .toList();
+        if (identifiedMovies.isEmpty()) {
+            return 0;
+        }
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, identifiedMovies, identifiedMovies.size(), (statement, movie) -> {
+            statement.setString(1, movie.getImdbId());
+            statement.setString(2, movie.getTitle());
+            statement.setString(3, movie.getYear());
+            statement.setString(4, movie.getPoster());
+            statement.setString(5, movie.getPlot());
+            statement.setString(6, movie.getGenre());
+            statement.setString(7, movie.getImdbRating());
+            statement.setString(8, movie.getRuntime());
+        });
+        return identifiedMovies.size();
+    }
+}
@@ -1,13 +1,21 @@
 package org.cinema.repository;
 
 import org.cinema.model.FilmSession;
+import org.cinema.repository.projection.FilmSessionView;
+import org.cinema.repository.projection.SessionInterval;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for managing {@link FilmSession} entities.
@@ -15,28 +23,143 @@ import java.util.List;
 @Repository
 public interface SessionRepository extends JpaRepository<FilmSession, Long> {
 
+    String SESSION_VIEW_QUERY = "SELECT new org.cinema.repository.projection.FilmSessionView(fs.id, m.id, m.title, " +
+            "fs.price, fs.date, fs.startTime, fs.endTime, fs.capacity, fs.heldSeats, fs.soldSeats) " +
+            "FROM FilmSession fs JOIN fs.movie m ";
+
+    String HELD_SEATS_COUNT = "SELECT CAST(COUNT(t) AS Integer) FROM Ticket t WHERE t.filmSession.id = fs.id " +
+            "AND t.status = org.cinema.model.Status.PENDING";
+
+    String SOLD_SEATS_COUNT = "SELECT CAST(COUNT(t) AS Integer) FROM Ticket t WHERE t.filmSession.id = fs.id " +
+            "AND t.status = org.cinema.model.Status.CONFIRMED";
+
+    /**
+     * Retrieves a film session together with its movie.
+     *
+     * @param id the ID of the film session.
+     * @return an {@link Optional} containing the {@link FilmSession} if found, or empty otherwise.
+     */
+    @EntityGraph(attributePaths = "movie")
+    Optional<FilmSession> findWithMovieById(Long id);
+
+    /**
+     * Retrieves the read-only views of all film sessions.
+     *
+     * @return a list of {@link FilmSessionView} projections.
+     */
+    @Query(SESSION_VIEW_QUERY)
+    @Transactional(readOnly = true)
+    List<FilmSessionView> findAllViews();
+
+    /**
+     * Retrieves the read-only view of a film session.
+     *
+     * @param sessionId the ID of the film session.
+     * @return an {@link Optional} containing the {@link FilmSessionView} if found, or empty otherwise.
+     */
+    @Query(SESSION_VIEW_QUERY + "WHERE fs.id = :sessionId")
+    Optional<FilmSessionView> findViewById(@Param("sessionId") Long sessionId);
+
     /**
-     * Retrieves all film sessions for the given date.
+     * Retrieves the read-only views of all film sessions for the given date.
      *
      * @param date the date for which film sessions are to be retrieved.
-     * @return a list of {@link FilmSession} entities for the given date.
+     * @return a list of {@link FilmSessionView} projections.
+     */
+    @Query(SESSION_VIEW_QUERY + "WHERE fs.date = :date")
+    @Transactional(readOnly = true)
+    List<FilmSessionView> findViewsByDate(@Param("date") LocalDate date);
+
+    /**
+     * Retrieves the next page of film sessions after the given position in schedule order
+     * (date, start time, ID), optionally up to a date and only with free seats (keyset pagination).
+     * The redundant bound on the date lets MySQL range-scan the (date, start_time) index,
+     * which it cannot do for the row comparison alone.
+     *
+     * @param afterDate the date of the last session of the previous page.
+     * @param afterStartTime the start time of the last session of the previous page.
+     * @param afterId the ID of the last session of the previous page, 0 to include sessions at that exact time.
+     * @param toDate the inclusive last date, or null for no upper bound.
+     * @param availableOnly whether to skip sessions without free seats.
+     * @param limit the maximum number of sessions.
+     * @return a list of {@link FilmSessionView} projections in schedule order.
+     */
+    @Query(SESSION_VIEW_QUERY +
+            "WHERE fs.date >= :afterDate " +
+            "AND (fs.date, fs.startTime, fs.id) > (:afterDate, :afterStartTime, :afterId) " +
+            "AND (:toDate IS NULL OR fs.date <= :toDate) " +
+            "AND (:availableOnly = false OR fs.heldSeats + fs.soldSeats < fs.capacity) " +
+            "ORDER BY fs.date, fs.startTime, fs.id")
+    @Transactional(readOnly = true)
+    List<FilmSessionView> findViewsAfter(@Param("afterDate") LocalDate afterDate,
+                                         @Param("afterStartTime") LocalTime afterStartTime,
+                                         @Param("afterId") Long afterId,
+                                         @Param("toDate") LocalDate toDate,
+                                         @Param("availableOnly") boolean availableOnly,
+                                         Limit limit);
+
+    /**
+     * Retrieves the date of a film session.
+     *
+     * @param sessionId the ID of the film session.
+     * @return an {@link Optional} containing the date if the session exists, or empty otherwise.
+     */
+    @Query("SELECT fs.date FROM FilmSession fs WHERE fs.id = :sessionId")
+    Optional<LocalDate> findDateById(@Param("sessionId") Long sessionId);
+
+    /**
+     * Retrieves the distinct dates of the given film sessions.
+     *
+     * @param sessionIds the IDs of the film sessions.
+     * @return a list of dates.
+     */
+    @Query("SELECT DISTINCT fs.date FROM FilmSession fs WHERE fs.id IN :sessionIds")
+    List<LocalDate> findDatesByIds(@Param("sessionIds") Collection<Long> sessionIds);
+
+    /**
+     * Retrieves the time slots of all film sessions on the given dates.
+     *
+     * @param dates the dates of the film sessions.
+     * @return a list of {@link SessionInterval} projections.
+     */
+    @Query("SELECT new org.cinema.repository.projection.SessionInterval(fs.id, fs.movie.id, fs.date, " +
+            "fs.startTime, fs.endTime) FROM FilmSession fs WHERE fs.date IN :dates")
+    List<SessionInterval> findIntervalsByDates(@Param("dates") Collection<LocalDate> dates);
+
+    /**
+     * Adds the given deltas to the held and sold seat counters of a film session.
+     *
+     * @param sessionId the ID of the film session.
+     * @param heldDelta the change of the number of held seats.
+     * @param soldDelta the change of the number of sold seats.
+     * @return the number of updated sessions.
+     */
+    @Modifying
+    @Query("UPDATE FilmSession fs SET fs.heldSeats = fs.heldSeats + :heldDelta, " +
+            "fs.soldSeats = fs.soldSeats + :soldDelta WHERE fs.id = :sessionId")
+    int adjustSeatCounters(@Param("sessionId") Long sessionId,
+                           @Param("heldDelta") int heldDelta,
+                           @Param("soldDelta") int soldDelta);
+
+    /**
+     * Retrieves the film sessions from the given date on whose seat counters differ from their tickets.
+     *
+     * @param fromDate the first date to check.
+     * @return a list of {@link FilmSession} entities with drifted counters.
      */
-    List<FilmSession> findByDate(LocalDate date);
+    @Query("SELECT fs FROM FilmSession fs WHERE fs.date >= :fromDate " +
+            "AND (fs.heldSeats <> (" + HELD_SEATS_COUNT + ") OR fs.soldSeats <> (" + SOLD_SEATS_COUNT + "))")
+    List<FilmSession> findWithSeatCounterDrift(@Param("fromDate") LocalDate fromDate);
 
     /**
-     * Checks if a film session overlaps with an existing one.
+     * Recounts the held and sold seats of the given film sessions from their tickets.
      *
-     * @param movieId   the ID of the movie.
-     * @param date      the date of the film session.
-     * @param startTime the start time of the film session.
-     * @param endTime   the end time of the film session.
-     * @return true if a conflicting session exists, otherwise false.
+     * @param sessionIds the IDs of the film sessions.
+     * @return the number of updated sessions.
      */
-    @Query("SELECT COUNT(fs) > 0 FROM FilmSession fs WHERE fs.movie.id = :movieId AND fs.date = :date " +
-            "AND (:start < fs.endTime AND :end > fs.startTime)")
-    boolean existsOverlappingSession(@Param("movieId") Long movieId,
-                                     @Param("date") LocalDate date,
-                                     @Param("start") LocalTime startTime,
-                                     @Param("end") LocalTime endTime);
+    @Modifying
+    @Query("UPDATE FilmSession fs SET fs.heldSeats = (" + HELD_SEATS_COUNT + "), " +
+            "fs.soldSeats = (" + SOLD_SEATS_COUNT + ") WHERE fs.id IN :sessionIds")
+    int recountSeatCounters(@Param("sessionIds") Collection<Long> sessionIds);
 
 }
\ No newline at end of file
@@ -0,0 +1,76 @@
+package org.cinema.repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import org.cinema.model.RequestType;
+import org.cinema.model.Status;
+import org.cinema.repository.projection.TicketView;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.stream.Stream;
+
+/**
+ * Repository streaming tickets for exports over a dedicated connection pool.
+ * An export holds its connection for as long as the client downloads, so it runs outside the shared pool:
+ * it neither takes a connection from request handling nor trips the leak detection of the shared pool.
+ */
+@Repository
+public class TicketExportRepository {
+
+    private static final String TICKET_VIEW_SQL = "SELECT t.`id`, u.`id`, u.`username`, fs.`id`, m.`id`, " +
+            "m.`title`, fs.`price`, fs.`date`, fs.`start_time`, fs.`end_time`, fs.`capacity`, t.`seat_number`, " +
+            "t.`purchase_time`, t.`status`, t.`request_type` " +
+            "FROM `ticket` t JOIN `users` u ON u.`id` = t.`user_id` " +
+            "JOIN `film_session` fs ON fs.`id` = t.`session_id` JOIN `movies` m ON m.`id` = fs.`movie_id` " +
+            "ORDER BY t.`id`";
+
+    private static final RowMapper<TicketView> TICKET_VIEW_MAPPER = (resultSet, rowNum) -> new TicketView(
+            resultSet.getLong(1), resultSet.getLong(2), resultSet.getString(3), resultSet.getLong(4),
+            resultSet.getLong(5), resultSet.getString(6), resultSet.getBigDecimal(7),
+            resultSet.getObject(8, LocalDate.class), resultSet.getObject(9, LocalTime.class),
+            resultSet.getObject(10, LocalTime.class), resultSet.getInt(11),
+            resultSet.getObject(12, Integer.class), resultSet.getObject(13, LocalDateTime.class),
+            Status.valueOf(resultSet.getString(14)), RequestType.valueOf(resultSet.getString(15)));
+
+    private final HikariDataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    public TicketExportRepository(DataSourceProperties dataSourceProperties,
+                                  @Value("${cinema.export.max-connections:2}") int maxConnections,
+                                  @Value("${cinema.export.timeout-seconds:3600}") int timeoutSeconds) {
+        // Only the connection settings are shared; the pool settings of the main pool, leak detection included,
+        // do not apply here.
+        dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("export");
+        dataSource.setMaximumPoolSize(maxConnections);
+        dataSource.setMinimumIdle(0);
+        dataSource.setReadOnly(true);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        // The MySQL driver streams rows from the server one by one for a fetch size of Integer.MIN_VALUE
+        // instead of buffering the whole result set.
+        jdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+        jdbcTemplate.setQueryTimeout(timeoutSeconds);
+    }
+
+    /**
+     * Streams the read-only views of all tickets ordered by ID.
+     * The stream holds a connection of the export pool and must be closed.
+     *
+     * @return a {@link Stream} of {@link TicketView} projections.
+     */
+    public Stream<TicketView> streamAllViews() {
+        return jdbcTemplate.queryForStream(TICKET_VIEW_SQL, TICKET_VIEW_MAPPER);
+    }
+
+    @PreDestroy
+    void close() {
+        dataSource.close();
+    }
+}
@@ -1,11 +1,23 @@
 package org.cinema.repository;
 
+import org.cinema.model.RequestType;
+import org.cinema.model.SeatHold;
+import org.cinema.model.Status;
 import org.cinema.model.Ticket;
+import org.cinema.repository.projection.TicketState;
+import org.cinema.repository.projection.TicketView;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for managing {@link Ticket} entities.
@@ -13,6 +25,14 @@ import java.util.List;
 @Repository
 public interface TicketRepository extends JpaRepository<Ticket, Long> {
 
+    String TICKET_VIEW_QUERY = "SELECT new org.cinema.repository.projection.TicketView(t.id, u.id, u.username, " +
+            "fs.id, m.id, m.title, fs.price, fs.date, fs.startTime, fs.endTime, fs.capacity, " +
+            "t.seatNumber, t.purchaseTime, t.status, t.requestType) " +
+            "FROM Ticket t JOIN t.user u JOIN t.filmSession fs JOIN fs.movie m ";
+
+    String TICKET_STATE_QUERY = "SELECT new org.cinema.repository.projection.TicketState(t.id, t.filmSession.id, " +
+            "t.seatNumber, t.purchaseTime, t.status, t.requestType) FROM Ticket t ";
+
     /**
      * Retrieves all tickets associated with a specific film session.
      *
@@ -22,21 +42,155 @@ public interface TicketRepository extends JpaRepository<Ticket, Long> {
     List<Ticket> findByFilmSessionId(Long sessionId);
 
     /**
-     * Checks if a ticket already exists for a specific seat in a film session.
+     * Retrieves the read-only views of all tickets.
+     *
+     * @return a list of {@link TicketView} projections.
+     */
+    @Query(TICKET_VIEW_QUERY)
+    List<TicketView> findAllViews();
+
+    /**
+     * Retrieves the read-only view of a ticket.
+     *
+     * @param ticketId the ID of the ticket.
+     * @return an {@link Optional} containing the {@link TicketView} if found, or empty otherwise.
+     */
+    @Query(TICKET_VIEW_QUERY + "WHERE t.id = :ticketId")
+    Optional<TicketView> findViewById(@Param("ticketId") Long ticketId);
+
+    /**
+     * Retrieves the seat numbers occupied by pending or confirmed tickets of a film session.
      *
      * @param sessionId the ID of the film session.
-     * @param seatNumber the seat number.
-     * @return true if the ticket exists, otherwise false.
+     * @return a list of occupied seat numbers.
      */
-    boolean existsByFilmSessionIdAndSeatNumber(Long sessionId, String seatNumber);
+    @Query("SELECT t.seatNumber FROM Ticket t WHERE t.filmSession.id = :sessionId " +
+            "AND t.status IN (org.cinema.model.Status.PENDING, org.cinema.model.Status.CONFIRMED)")
+    List<Integer> findActiveSeatNumbersBySessionId(@Param("sessionId") Long sessionId);
 
     /**
-     * Retrieves all tickets purchased by a specific user.
+     * Retrieves the read-only views of all tickets purchased by a specific user.
      *
      * @param userId the ID of the user.
-     * @return a list of {@link Ticket} entities.
+     * @return a list of {@link TicketView} projections.
+     */
+    @Query(TICKET_VIEW_QUERY + "WHERE u.id = :userId ORDER BY t.purchaseTime DESC")
+    List<TicketView> findViewsByUserId(@Param("userId") Long userId);
+
+    /**
+     * Retrieves the next page of tickets after the given ID, optionally filtered (keyset pagination).
+     * Null filter values are ignored.
+     *
+     * @param afterId the ID of the last ticket of the previous page, 0 for the first page.
+     * @param status the status of the tickets.
+     * @param requestType the request type of the tickets.
+     * @param sessionId the ID of the film session.
+     * @param from the inclusive lower bound of the purchase time.
+     * @param to the exclusive upper bound of the purchase time.
+     * @param limit the maximum number of tickets.
+     * @return a list of {@link TicketView} projections ordered by ID.
+     */
+    @Query(TICKET_VIEW_QUERY +
+            "WHERE t.id > :afterId " +
+            "AND (:status IS NULL OR t.status = :status) " +
+            "AND (:requestType IS NULL OR t.requestType = :requestType) " +
+            "AND (:sessionId IS NULL OR fs.id = :sessionId) " +
+            "AND (:from IS NULL OR t.purchaseTime >= :from) " +
+            "AND (:to IS NULL OR t.purchaseTime < :to) " +
+            "ORDER BY t.id")
+    List<TicketView> findPage(@Param("afterId") Long afterId,
+                          @Param("status") Status status,
+                          @Param("requestType") RequestType requestType,
+                          @Param("sessionId") Long sessionId,
+                          @Param("from") LocalDateTime from,
+                          @Param("to") LocalDateTime to,
+                          Limit limit);
+
+    /**
+     * Retrieves the seat holds of all pending purchases.
+     *
+     * @return a list of {@link SeatHold} records.
+     */
+    @Query("SELECT new org.cinema.model.SeatHold(t.id, t.filmSession.id, t.seatNumber, t.purchaseTime) " +
+            "FROM Ticket t WHERE t.status = org.cinema.model.Status.PENDING " +
+            "AND t.requestType = org.cinema.model.RequestType.PURCHASE")
+    List<SeatHold> findPendingPurchaseHolds();
+
+    /**
+     * Cancels the given tickets if they are still pending purchases.
+     *
+     * @param ticketIds the IDs of the tickets to cancel.
+     * @return the number of cancelled tickets.
+     */
+    @Modifying
+    @Query("UPDATE Ticket t SET t.status = org.cinema.model.Status.CANCELLED WHERE t.id IN :ticketIds " +
+            "AND t.status = org.cinema.model.Status.PENDING AND t.requestType = org.cinema.model.RequestType.PURCHASE")
+    int cancelPendingPurchases(@Param("ticketIds") Collection<Long> ticketIds);
+
+    /**
+     * Retrieves the current state and seat of a ticket without loading its associations.
+     *
+     * @param ticketId the ID of the ticket.
+     * @return an {@link Optional} containing the {@link TicketState} if found, or empty otherwise.
+     */
+    @Query(TICKET_STATE_QUERY + "WHERE t.id = :ticketId")
+    Optional<TicketState> findStateById(@Param("ticketId") Long ticketId);
+
+    /**
+     * Retrieves the existing IDs among the given ticket IDs.
+     *
+     * @param ticketIds the IDs of the tickets.
+     * @return a list of existing ticket IDs.
+     */
+    @Query("SELECT t.id FROM Ticket t WHERE t.id IN :ticketIds")
+    List<Long> findExistingIds(@Param("ticketIds") Collection<Long> ticketIds);
+
+    /**
+     * Locks the given tickets that are in one of the expected states and retrieves their states and seats.
+     *
+     * @param ticketIds the IDs of the tickets.
+     * @param sourceStatuses the statuses the tickets are expected to have.
+     * @param sourceRequestTypes the request types the tickets are expected to have.
+     * @return a list of {@link TicketState} projections of the locked tickets.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(TICKET_STATE_QUERY + "WHERE t.id IN :ticketIds " +
+            "AND t.status IN :sourceStatuses AND t.requestType IN :sourceRequestTypes")
+    List<TicketState> lockTicketsInState(@Param("ticketIds") Collection<Long> ticketIds,
+                                      @Param("sourceStatuses") Collection<Status> sourceStatuses,
+                                      @Param("sourceRequestTypes") Collection<RequestType> sourceRequestTypes);
+
+    /**
+     * Sets the status of the tickets that are still in one of the expected states.
+     *
+     * @param ticketIds the IDs of the tickets.
+     * @param sourceStatuses the statuses the tickets are expected to have.
+     * @param sourceRequestTypes the request types the tickets are expected to have.
+     * @param targetStatus the new status.
+     * @return the number of updated tickets.
+     */
+    @Modifying
+    @Query("UPDATE Ticket t SET t.status = :targetStatus WHERE t.id IN :ticketIds " +
+            "AND t.status IN :sourceStatuses AND t.requestType IN :sourceRequestTypes")
+    int compareAndSetStatus(@Param("ticketIds") Collection<Long> ticketIds,
+                            @Param("sourceStatuses") Collection<Status> sourceStatuses,
+                            @Param("sourceRequestTypes") Collection<RequestType> sourceRequestTypes,
+                            @Param("targetStatus") Status targetStatus);
+
+    /**
+     * Sets the request type of the tickets that are still in one of the expected states.
+     *
+     * @param ticketIds the IDs of the tickets.
+     * @param sourceStatuses the statuses the tickets are expected to have.
+     * @param sourceRequestTypes the request types the tickets are expected to have.
+     * @param targetRequestType the new request type.
+     * @return the number of updated tickets.
      */
-    @Query("SELECT t FROM Ticket t JOIN FETCH t.filmSession fs " +
-            "WHERE t.user.id = :userId ")
-    List<Ticket> findTicketsByUserId(@Param("userId") Long userId);
+    @Modifying
+    @Query("UPDATE Ticket t SET t.requestType = :targetRequestType WHERE t.id IN :ticketIds " +
+            "AND t.status IN :sourceStatuses AND t.requestType IN :sourceRequestTypes")
+    int compareAndSetRequestType(@Param("ticketIds") Collection<Long> ticketIds,
+                                 @Param("sourceStatuses") Collection<Status> sourceStatuses,
+                                 @Param("sourceRequestTypes") Collection<RequestType> sourceRequestTypes,
+                                 @Param("targetRequestType") RequestType targetRequestType);
 }
@@ -0,0 +1,21 @@
+package org.cinema.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Read-only projection of a film session with the title of its movie
+ * needed for a {@link org.cinema.dto.filmSessionDTO.FilmSessionResponseDTO}.
+ */
+public record FilmSessionView(Long id,
+                              Long movieId,
+                              String movieTitle,
+                              BigDecimal price,
+                              LocalDate date,
+                              LocalTime startTime,
+                              LocalTime endTime,
+                              int capacity,
+                              int heldSeats,
+                              int soldSeats) {
+}
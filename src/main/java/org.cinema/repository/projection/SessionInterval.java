@@ -0,0 +1,10 @@
+package org.cinema.repository.projection;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Read-only projection of the time slot a film session occupies.
+ */
+public record SessionInterval(Long id, Long movieId, LocalDate date, LocalTime startTime, LocalTime endTime) {
+}
@@ -0,0 +1,22 @@
+package org.cinema.repository.projection;
+
+import org.cinema.model.RequestType;
+import org.cinema.model.SeatHold;
+import org.cinema.model.Status;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of the current state of a ticket and the seat it occupies.
+ */
+public record TicketState(Long ticketId, Long sessionId, int seatNumber, LocalDateTime purchaseTime,
+                          Status status, RequestType requestType) {
+
+    /**
+     * Returns the seat of the ticket.
+     *
+     * @return the {@link SeatHold} of the ticket.
+     */
+    public SeatHold toSeatHold() {
+        return new SeatHold(ticketId, sessionId, seatNumber, purchaseTime);
+    }
+}
@@ -0,0 +1,29 @@
+package org.cinema.repository.projection;
+
+import org.cinema.model.RequestType;
+import org.cinema.model.Status;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Read-only projection of a ticket with the columns of its user, film session and movie
+ * needed for a {@link org.cinema.dto.ticketDTO.TicketResponseDTO}.
+ */
+public record TicketView(Long id,
+                         Long userId,
+                         String username,
+                         Long sessionId,
+                         Long movieId,
+                         String movieTitle,
+                         BigDecimal price,
+                         LocalDate date,
+                         LocalTime startTime,
+                         LocalTime endTime,
+                         int capacity,
+                         Integer seatNumber,
+                         LocalDateTime purchaseTime,
+                         Status status,
+                         RequestType requestType) {
+}
@@ -0,0 +1,58 @@
+package org.cinema.service;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * Service interface for tracking versions of the seat maps and schedules served to clients.
+ * Versions are kept in memory and combined with the start time of the application,
+ * so entity tags issued before a restart never match afterwards.
+ */
+public interface ResourceVersionService {
+    /**
+     * Builds the strong entity tag of the seat map and details of a film session in one representation.
+     *
+     * @param sessionId the ID of the film session.
+     * @param representation the name of the representation, so that each representation has its own tag.
+     * @return the quoted entity tag.
+     */
+    String getSessionETag(Long sessionId, String representation);
+
+    /**
+     * Builds the strong entity tag of the schedule of a date.
+     *
+     * @param date the date of the schedule.
+     * @return the quoted entity tag.
+     */
+    String getScheduleETag(LocalDate date);
+
+    /**
+     * Builds the strong entity tag of the upcoming sessions listing.
+     * The tag also changes every minute, as sessions drop out of the listing once they start.
+     *
+     * @return the quoted entity tag.
+     */
+    String getUpcomingETag();
+
+    /**
+     * Marks the seat map or details of a film session as changed.
+     *
+     * @param sessionId the ID of the film session.
+     */
+    void sessionChanged(Long sessionId);
+
+    /**
+     * Marks the schedules of the given dates and the upcoming sessions listing as changed.
+     *
+     * @param dates the dates whose schedules have changed.
+     */
+    void schedulesChanged(Collection<LocalDate> dates);
+
+    /**
+     * Drops the versions of past schedules and of sessions that did not change since the previous prune.
+     * Dropped resources get a version above all versions issued so far, so their old tags never match again.
+     *
+     * @return the number of dropped versions.
+     */
+    int prune();
+}
@@ -0,0 +1,45 @@
+package org.cinema.service;
+
+import org.cinema.dto.filmSessionDTO.FilmSessionResponseDTO;
+import org.cinema.util.LruTtlCache;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Service interface for the cache of film session schedules.
+ * Holds the sessions of recently requested dates and the list of all sessions, bounded in size and age.
+ */
+public interface ScheduleCacheService {
+    /**
+     * Retrieves the sessions of a date from the cache, loading them on a miss.
+     *
+     * @param date the date of the sessions.
+     * @param loader the supplier reading the sessions of the date from the database.
+     * @return an unmodifiable list of {@link FilmSessionResponseDTO}.
+     */
+    List<FilmSessionResponseDTO> getByDate(LocalDate date, Supplier<List<FilmSessionResponseDTO>> loader);
+
+    /**
+     * Retrieves all sessions from the cache, loading them on a miss.
+     *
+     * @param loader the supplier reading all sessions from the database.
+     * @return an unmodifiable list of {@link FilmSessionResponseDTO}.
+     */
+    List<FilmSessionResponseDTO> getAll(Supplier<List<FilmSessionResponseDTO>> loader);
+
+    /**
+     * Drops the cached schedules of the given dates and the cached list of all sessions.
+     *
+     * @param dates the dates whose schedules have changed.
+     */
+    void evict(Collection<LocalDate> dates);
+
+    /**
+     * Retrieves the hit, miss and eviction counters of the cache.
+     *
+     * @return the current {@link LruTtlCache.Stats}.
+     */
+    LruTtlCache.Stats getStats();
+}
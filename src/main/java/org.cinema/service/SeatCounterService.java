@@ -0,0 +1,37 @@
+package org.cinema.service;
+
+import org.cinema.model.Status;
+
+/**
+ * Service interface for the denormalized held and sold seat counters of film sessions.
+ * Pending tickets count as held seats and confirmed tickets as sold seats, so listings can show
+ * the free seats of a session without aggregating its tickets.
+ * Cached schedules are refreshed in batches rather than per ticket, so listings may lag
+ * the counters by up to the flush interval.
+ */
+public interface SeatCounterService {
+    /**
+     * Moves tickets of a session between statuses in the seat counters of the session,
+     * as part of the current transaction.
+     *
+     * @param sessionId the ID of the film session.
+     * @param fromStatus the previous status of the tickets, or null for new tickets.
+     * @param toStatus the new status of the tickets, or null for deleted tickets.
+     * @param count the number of tickets.
+     */
+    void ticketsChanged(Long sessionId, Status fromStatus, Status toStatus, int count);
+
+    /**
+     * Evicts the cached schedules of the dates whose sessions had tickets changed since the last flush.
+     *
+     * @return the number of evicted dates.
+     */
+    int flushScheduleChanges();
+
+    /**
+     * Recounts the seat counters of today's and future sessions that drifted from their tickets.
+     *
+     * @return the number of repaired sessions.
+     */
+    int reconcile();
+}
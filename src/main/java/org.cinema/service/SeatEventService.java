@@ -0,0 +1,31 @@
+package org.cinema.service;
+
+import org.cinema.model.SeatEvent;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Service interface for streaming seat availability changes of film sessions to clients as Server-Sent Events.
+ * Every subscriber has a bounded buffer; a subscriber that falls behind is disconnected
+ * instead of delaying the others.
+ */
+public interface SeatEventService {
+    /**
+     * Subscribes to the seat events of a film session.
+     * The first event is a snapshot of the taken seats, read after the subscription is registered
+     * so that no change between the snapshot and the subscription is missed.
+     *
+     * @param sessionId the ID of the film session.
+     * @param snapshot the supplier of the currently taken seats.
+     * @return the {@link SseEmitter} streaming the events.
+     */
+    SseEmitter subscribe(Long sessionId, Supplier<List<Integer>> snapshot);
+
+    /**
+     * Sends an event to all subscribers of its film session.
+     *
+     * @param event the seat event.
+     */
+    void publish(SeatEvent event);
+}
@@ -0,0 +1,33 @@
+package org.cinema.service;
+
+import org.cinema.model.SeatHold;
+import java.util.Optional;
+
+/**
+ * Service interface for timed seat holds.
+ * A pending purchase keeps its seat only for a limited time; unconfirmed holds are cancelled
+ * and their seats are returned to the session inventory.
+ */
+public interface SeatHoldService {
+    /**
+     * Starts tracking the expiry of a pending purchase.
+     *
+     * @param seatHold the hold of the pending purchase.
+     */
+    void hold(SeatHold seatHold);
+
+    /**
+     * Stops tracking a ticket that is no longer a pending purchase.
+     *
+     * @param ticketId the ID of the ticket.
+     * @return the released hold, or empty if the ticket was not held.
+     */
+    Optional<SeatHold> release(Long ticketId);
+
+    /**
+     * Cancels all holds whose time-to-live has elapsed.
+     *
+     * @return the number of expired holds.
+     */
+    int expireHolds();
+}
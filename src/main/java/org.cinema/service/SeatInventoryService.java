@@ -0,0 +1,74 @@
+package org.cinema.service;
+
+import org.cinema.model.FilmSession;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Service interface for the in-memory seat inventory of film sessions.
+ * Keeps one seat bitmap per session, loaded lazily from the database on first use and dropped once
+ * the session's date has passed.
+ * Seat decisions are serialized per session, so sessions never contend with each other.
+ * Committed changes are published as {@link org.cinema.model.SeatEvent}s.
+ */
+public interface SeatInventoryService {
+    /**
+     * Marks a seat of the session as taken.
+     * The seat is released again if the current transaction rolls back.
+     *
+     * @param session the film session.
+     * @param seatNumber the seat number.
+     * @return true if the seat was free and is now reserved, false if it was already taken.
+     */
+    boolean reserve(FilmSession session, int seatNumber);
+
+    /**
+     * Marks all given seats of the session as taken, or none of them if any seat is already taken.
+     * The seats are released again if the current transaction rolls back.
+     *
+     * @param session the film session.
+     * @param seatNumbers the seat numbers.
+     * @return true if all seats were free and are now reserved, otherwise false.
+     */
+    boolean reserveAll(FilmSession session, Collection<Integer> seatNumbers);
+
+    /**
+     * Marks a seat of the session as free.
+     *
+     * @param sessionId the ID of the film session.
+     * @param seatNumber the seat number.
+     */
+    void release(Long sessionId, int seatNumber);
+
+    /**
+     * Retrieves the taken seats of the session in ascending order.
+     *
+     * @param session the film session.
+     * @return a list of taken seat numbers.
+     */
+    List<Integer> getTakenSeats(FilmSession session);
+
+    /**
+     * Retrieves a copy of the taken seats of the session as a bitset indexed by seat number.
+     *
+     * @param session the film session.
+     * @return a {@link BitSet} with the taken seats set.
+     */
+    BitSet getTakenSeatSet(FilmSession session);
+
+    /**
+     * Drops the cached seat bitmaps of sessions whose date has passed, so that the cache only holds
+     * sessions that can still be sold.
+     *
+     * @return the number of evicted seat bitmaps.
+     */
+    int evictPastSessions();
+
+    /**
+     * Drops the cached seat bitmap of the session so that it is reloaded on next use.
+     *
+     * @param sessionId the ID of the film session.
+     */
+    void evict(Long sessionId);
+}
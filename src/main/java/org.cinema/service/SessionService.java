@@ -1,7 +1,10 @@
 package org.cinema.service;
 
 import org.cinema.dto.filmSessionDTO.FilmSessionCreateDTO;
+import org.cinema.dto.filmSessionDTO.FilmSessionFilterDTO;
+import org.cinema.dto.filmSessionDTO.FilmSessionPageDTO;
 import org.cinema.dto.filmSessionDTO.FilmSessionResponseDTO;
+import org.cinema.dto.filmSessionDTO.FilmSessionScheduleDTO;
 import org.cinema.dto.filmSessionDTO.FilmSessionUpdateDTO;
 import java.util.List;
 
@@ -27,6 +30,15 @@ public interface SessionService {
      */
     String update(FilmSessionUpdateDTO updateDTO, Long movieId);
 
+    /**
+     * Creates the film sessions of a recurring schedule in one transaction.
+     * One session is created for every start time on every matching weekday of the date range.
+     *
+     * @param scheduleDTO the DTO containing the movie, date range, weekdays and start times.
+     * @return a message with the number of created sessions.
+     */
+    String schedule(FilmSessionScheduleDTO scheduleDTO);
+
     /**
      * Deletes a film session by its ID.
      *
@@ -57,4 +69,12 @@ public interface SessionService {
      * @return a list of {@link FilmSessionResponseDTO}.
      */
     List<FilmSessionResponseDTO> findByDate(String date);
+
+    /**
+     * Retrieves one page of sessions that have not started yet, in schedule order.
+     *
+     * @param filter the DTO containing the date range, page position and page size.
+     * @return the {@link FilmSessionPageDTO} with the sessions and the position of the next page.
+     */
+    FilmSessionPageDTO findUpcoming(FilmSessionFilterDTO filter);
 }
@@ -0,0 +1,22 @@
+package org.cinema.service;
+
+import org.cinema.model.ExportFormat;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Service interface for exporting all tickets as a stream of rows.
+ */
+public interface TicketExportService {
+    /**
+     * Writes all tickets ordered by ID to the given stream in the given format.
+     * Rows are read through a database cursor and written one by one, so memory use does not grow
+     * with the number of tickets.
+     *
+     * @param format the format of the rows.
+     * @param outputStream the stream to write to, it is flushed but not closed.
+     * @return the number of exported tickets.
+     * @throws IOException if writing to the stream fails.
+     */
+    long export(ExportFormat format, OutputStream outputStream) throws IOException;
+}
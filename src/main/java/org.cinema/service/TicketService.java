@@ -1,9 +1,14 @@
 package org.cinema.service;
 
 import org.cinema.dto.filmSessionDTO.FilmSessionResponseDTO;
+import org.cinema.dto.ticketDTO.TicketBatchPurchaseDTO;
+import org.cinema.dto.ticketDTO.TicketBulkActionResultDTO;
 import org.cinema.dto.ticketDTO.TicketCreateDTO;
+import org.cinema.dto.ticketDTO.TicketFilterDTO;
+import org.cinema.dto.ticketDTO.TicketPageDTO;
 import org.cinema.dto.ticketDTO.TicketResponseDTO;
 import org.cinema.dto.ticketDTO.TicketUpdateDTO;
+import org.cinema.model.SeatMapFormat;
 import java.util.List;
 
 /**
@@ -49,6 +54,14 @@ public interface TicketService {
      */
     List<TicketResponseDTO> findAll();
 
+    /**
+     * Retrieves one page of tickets matching the filter, ordered by ID.
+     *
+     * @param filter the DTO containing the page position, page size and filters.
+     * @return the {@link TicketPageDTO} with the tickets and the position of the next page.
+     */
+    TicketPageDTO findPage(TicketFilterDTO filter);
+
     /**
      * Retrieves session details along with associated tickets.
      *
@@ -57,6 +70,15 @@ public interface TicketService {
      */
     FilmSessionResponseDTO getSessionDetailsWithTickets(String sessionId);
 
+    /**
+     * Retrieves session details with the taken seats in the given format.
+     *
+     * @param sessionId the ID of the session to retrieve.
+     * @param format the format of the taken seats.
+     * @return the {@link FilmSessionResponseDTO} containing session and ticket details.
+     */
+    FilmSessionResponseDTO getSessionDetailsWithTickets(String sessionId, SeatMapFormat format);
+
     /**
      * Purchases a ticket.
      *
@@ -65,6 +87,14 @@ public interface TicketService {
      */
     String purchaseTicket(TicketCreateDTO ticketCreateDTO);
 
+    /**
+     * Purchases several seats of one session atomically.
+     *
+     * @param batchPurchaseDTO the DTO containing the session and the seats to purchase.
+     * @return the result of the purchase.
+     */
+    String purchaseTickets(TicketBatchPurchaseDTO batchPurchaseDTO);
+
     /**
      * Retrieves tickets by user ID.
      *
@@ -81,4 +111,13 @@ public interface TicketService {
      * @return the result of the action.
      */
     String processTicketAction(String action, Long ticketId);
+
+    /**
+     * Processes an action on several tickets.
+     *
+     * @param action the action to perform (e.g., "confirm").
+     * @param ticketIds the IDs of the tickets.
+     * @return the {@link TicketBulkActionResultDTO} with the outcome for each ticket.
+     */
+    TicketBulkActionResultDTO processTicketActions(String action, List<Long> ticketIds);
 }
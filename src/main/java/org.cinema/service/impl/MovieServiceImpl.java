@@ -5,14 +5,23 @@ import lombok.extern.slf4j.Slf4j;
 import org.cinema.dto.movieDTO.MovieResponseDTO;
 import org.cinema.mapper.movieMapper.MovieApiCreateMapper;
 import org.cinema.mapper.movieMapper.MovieResponseMapper;
+import org.cinema.client.OmdbClient;
+import org.cinema.exception.OmdbApiException;
+import org.cinema.exception.OmdbUnavailableException;
 import org.cinema.model.Movie;
 import org.cinema.model.MovieAPI;
 import org.cinema.repository.MovieRepository;
 import org.cinema.service.MovieService;
-import org.cinema.util.OmdbApiUtil;
+import org.cinema.util.SingleFlight;
 import org.cinema.util.ValidationUtil;
 import org.springframework.stereotype.Service;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -20,7 +29,12 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class MovieServiceImpl implements MovieService {
 
+    private static final int MIN_PARTIAL_MATCH_LENGTH = 3;
+    private static final int MAX_PARTIAL_MATCH_WORDS = 5;
+
     private final MovieRepository movieRepository;
+    private final OmdbClient omdbClient;
+    private final SingleFlight<String, List<MovieResponseDTO>> searchFlights = new SingleFlight<>();
 
     @Override
     public List<MovieResponseDTO> findAll() {
@@ -33,7 +47,13 @@ public class MovieServiceImpl implements MovieService {
     @Override
     public List<MovieResponseDTO> searchMovies(String title) {
         ValidationUtil.validateNotBlank(title, "movie_title");
+        // Concurrent searches for the same title share one database lookup, OMDB fetch and save. The shared work
+        // runs on the normalized title, so every caller gets the results of the key it was coalesced on.
+        String normalizedTitle = OmdbClient.normalizeTitle(title);
+        return searchFlights.execute(normalizedTitle, () -> findOrImportMovies(normalizedTitle));
+    }
 
+    private List<MovieResponseDTO> findOrImportMovies(String title) {
         List<Movie> moviesFromDb = movieRepository.findByTitleContainingIgnoreCase(title);
         if (!moviesFromDb.isEmpty()) {
             log.info("Found {} movie(s) with title '{}'", moviesFromDb.size(), title);
@@ -42,16 +62,70 @@ public class MovieServiceImpl implements MovieService {
                     .toList();
         }
 
-        List<MovieAPI> apiMovies = OmdbApiUtil.searchMovies(title);
-        return apiMovies.stream()
-                .map(MovieApiCreateMapper.INSTANCE::toEntity)
-                .peek(this::saveMovieToDatabase)
+        List<MovieAPI> apiMovies;
+        try {
+            apiMovies = fetchFromOmdb(title);
+        } catch (OmdbUnavailableException e) {
+            return findPartialMatches(title, e);
+        }
+        return saveMoviesToDatabase(apiMovies).stream()
                 .map(MovieResponseMapper.INSTANCE::toDTO)
                 .toList();
     }
 
-    private void saveMovieToDatabase(Movie movie) {
-        movieRepository.save(movie);
-        log.debug("Saved movie '{}' to database", movie.getTitle());
+    /**
+     * Falls back to movies matching any word of the title while OMDB is unavailable.
+     */
+    private List<MovieResponseDTO> findPartialMatches(String title, OmdbUnavailableException cause) {
+        Map<Long, Movie> matches = new LinkedHashMap<>();
+        Arrays.stream(OmdbClient.normalizeTitle(title).split(" "))
+                .filter(word -> word.length() >= MIN_PARTIAL_MATCH_LENGTH)
+                .distinct()
+                .limit(MAX_PARTIAL_MATCH_WORDS)
+                .flatMap(word -> movieRepository.findByTitleContainingIgnoreCase(word).stream())
+                .forEach(movie -> matches.putIfAbsent(movie.getId(), movie));
+        if (matches.isEmpty()) {
+            throw cause;
+        }
+
+        log.warn("OMDB unavailable ({}), returning {} partial match(es) for title '{}' from the database.",
+                cause.getMessage(), matches.size(), title);
+        return matches.values().stream()
+                .map(MovieResponseMapper.INSTANCE::toDTO)
+                .toList();
+    }
+
+    private List<MovieAPI> fetchFromOmdb(String title) {
+        try {
+            return omdbClient.searchMovies(title).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new OmdbApiException("Unexpected error occurred while searching for movies", e.getCause());
+        }
+    }
+
+    /**
+     * Upserts the OMDB results by IMDb ID in one batch and reads them back with their IDs, in search order.
+     */
+    private List<Movie> saveMoviesToDatabase(List<MovieAPI> apiMovies) {
+        Map<String, Movie> moviesByImdbId = new LinkedHashMap<>();
+        apiMovies.stream()
+                .map(MovieApiCreateMapper.INSTANCE::toEntity)
+                .filter(movie -> movie.getImdbId() != null)
+                .forEach(movie -> moviesByImdbId.putIfAbsent(movie.getImdbId(), movie));
+        if (moviesByImdbId.isEmpty()) {
+            return List.of();
+        }
+
+        movieRepository.upsertAllByImdbId(moviesByImdbId.values());
+        Map<String, Movie> savedMovies = movieRepository.findByImdbIdIn(moviesByImdbId.keySet()).stream()
+                .collect(Collectors.toMap(Movie::getImdbId, Function.identity()));
+        log.debug("Saved {} movie(s) to database", savedMovies.size());
+        return moviesByImdbId.keySet().stream()
+                .map(savedMovies::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 }
\ No newline at end of file
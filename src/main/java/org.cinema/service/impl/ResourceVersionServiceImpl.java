@@ -0,0 +1,82 @@
+package org.cinema.service.impl;
+
+import org.cinema.service.ResourceVersionService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class ResourceVersionServiceImpl implements ResourceVersionService {
+
+    private final long epoch = System.currentTimeMillis();
+    private final AtomicLong clock = new AtomicLong();
+    private final ConcurrentMap<Long, Long> sessionVersions = new ConcurrentHashMap<>();
+    private final ConcurrentMap<LocalDate, Long> scheduleVersions = new ConcurrentHashMap<>();
+    private volatile long upcomingVersion;
+    // Version of every resource without an entry. Raised on each prune above all versions issued so far,
+    // so a pruned resource never falls back to a tag a client may still hold for older content.
+    private volatile long floorVersion;
+    private long lastPruneVersion;
+
+    @Override
+    public String getSessionETag(Long sessionId, String representation) {
+        return eTag("session-" + sessionId + "-" + representation,
+                sessionVersions.getOrDefault(sessionId, floorVersion));
+    }
+
+    @Override
+    public String getScheduleETag(LocalDate date) {
+        return eTag("schedule-" + date, scheduleVersions.getOrDefault(date, floorVersion));
+    }
+
+    @Override
+    public String getUpcomingETag() {
+        long minute = TimeUnit.MILLISECONDS.toMinutes(System.currentTimeMillis());
+        return eTag("upcoming-" + minute, upcomingVersion);
+    }
+
+    @Override
+    public void sessionChanged(Long sessionId) {
+        sessionVersions.put(sessionId, clock.incrementAndGet());
+    }
+
+    @Override
+    public void schedulesChanged(Collection<LocalDate> dates) {
+        dates.forEach(date -> scheduleVersions.put(date, clock.incrementAndGet()));
+        upcomingVersion = clock.incrementAndGet();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${cinema.resource-versions.prune-millis:3600000}")
+    public synchronized int prune() {
+        long idleVersion = lastPruneVersion;
+        floorVersion = clock.incrementAndGet();
+        lastPruneVersion = floorVersion;
+
+        LocalDate today = LocalDate.now();
+        int pruned = 0;
+        for (Map.Entry<LocalDate, Long> entry : scheduleVersions.entrySet()) {
+            if (entry.getKey().isBefore(today) && scheduleVersions.remove(entry.getKey(), entry.getValue())) {
+                pruned++;
+            }
+        }
+        // Sessions do not know their date here; a session unchanged for a whole prune interval is dropped,
+        // which covers every past session.
+        for (Map.Entry<Long, Long> entry : sessionVersions.entrySet()) {
+            if (entry.getValue() <= idleVersion && sessionVersions.remove(entry.getKey(), entry.getValue())) {
+                pruned++;
+            }
+        }
+        return pruned;
+    }
+
+    private String eTag(String resource, long version) {
+        return "\"" + resource + "-" + epoch + "-" + version + "\"";
+    }
+}
@@ -0,0 +1,56 @@
+package org.cinema.service.impl;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.cinema.dto.filmSessionDTO.FilmSessionResponseDTO;
+import org.cinema.service.ScheduleCacheService;
+import org.cinema.util.LruTtlCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Service
+@Slf4j
+public class ScheduleCacheServiceImpl implements ScheduleCacheService {
+
+    private static final String ALL_SESSIONS_KEY = "all";
+
+    @Value("${cinema.schedule-cache.max-entries:64}")
+    private int maxEntries;
+
+    @Value("${cinema.schedule-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private LruTtlCache<String, List<FilmSessionResponseDTO>> cache;
+
+    @PostConstruct
+    void init() {
+        cache = new LruTtlCache<>(maxEntries, TimeUnit.SECONDS.toMillis(ttlSeconds));
+    }
+
+    @Override
+    public List<FilmSessionResponseDTO> getByDate(LocalDate date, Supplier<List<FilmSessionResponseDTO>> loader) {
+        return cache.get(date.toString(), key -> List.copyOf(loader.get()));
+    }
+
+    @Override
+    public List<FilmSessionResponseDTO> getAll(Supplier<List<FilmSessionResponseDTO>> loader) {
+        return cache.get(ALL_SESSIONS_KEY, key -> List.copyOf(loader.get()));
+    }
+
+    @Override
+    public void evict(Collection<LocalDate> dates) {
+        dates.forEach(date -> cache.invalidate(date.toString()));
+        cache.invalidate(ALL_SESSIONS_KEY);
+        log.debug("Schedule cache evicted for dates {}.", dates);
+    }
+
+    @Override
+    public LruTtlCache.Stats getStats() {
+        return cache.stats();
+    }
+}
@@ -0,0 +1,92 @@
+package org.cinema.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.cinema.model.FilmSession;
+import org.cinema.model.Status;
+import org.cinema.repository.SessionRepository;
+import org.cinema.service.ResourceVersionService;
+import org.cinema.service.ScheduleCacheService;
+import org.cinema.service.SeatCounterService;
+import org.cinema.util.TransactionUtil;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class SeatCounterServiceImpl implements SeatCounterService {
+
+    private final SessionRepository sessionRepository;
+    private final ScheduleCacheService scheduleCacheService;
+    private final ResourceVersionService resourceVersionService;
+    private final Set<Long> changedSessionIds = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public void ticketsChanged(Long sessionId, Status fromStatus, Status toStatus, int count) {
+        int heldDelta = (countOf(toStatus, Status.PENDING) - countOf(fromStatus, Status.PENDING)) * count;
+        int soldDelta = (countOf(toStatus, Status.CONFIRMED) - countOf(fromStatus, Status.CONFIRMED)) * count;
+        if (heldDelta == 0 && soldDelta == 0) {
+            return;
+        }
+
+        sessionRepository.adjustSeatCounters(sessionId, heldDelta, soldDelta);
+        // Evicting the schedule per ticket would leave the cache without hits on a busy night.
+        TransactionUtil.afterCommit(() -> {
+            changedSessionIds.add(sessionId);
+            resourceVersionService.sessionChanged(sessionId);
+        });
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${cinema.seat-counters.flush-millis:5000}")
+    public int flushScheduleChanges() {
+        List<Long> sessionIds = new ArrayList<>();
+        for (Iterator<Long> iterator = changedSessionIds.iterator(); iterator.hasNext(); ) {
+            sessionIds.add(iterator.next());
+            iterator.remove();
+        }
+        if (sessionIds.isEmpty()) {
+            return 0;
+        }
+
+        List<LocalDate> dates = sessionRepository.findDatesByIds(sessionIds);
+        scheduleCacheService.evict(dates);
+        resourceVersionService.schedulesChanged(dates);
+        log.debug("Schedules of {} refreshed after seat changes in {} session(s).", dates, sessionIds.size());
+        return dates.size();
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(fixedDelayString = "${cinema.seat-counters.reconcile-millis:3600000}")
+    public int reconcile() {
+        List<FilmSession> driftedSessions = sessionRepository.findWithSeatCounterDrift(LocalDate.now());
+        if (driftedSessions.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> sessionIds = driftedSessions.stream().map(FilmSession::getId).toList();
+        List<LocalDate> dates = driftedSessions.stream().map(FilmSession::getDate).distinct().toList();
+        sessionRepository.recountSeatCounters(sessionIds);
+        TransactionUtil.afterCommit(() -> {
+            scheduleCacheService.evict(dates);
+            resourceVersionService.schedulesChanged(dates);
+            sessionIds.forEach(resourceVersionService::sessionChanged);
+        });
+        log.warn("Seat counters of {} session(s) drifted from their tickets and were recounted: {}",
+                sessionIds.size(), sessionIds);
+        return sessionIds.size();
+    }
+
+    private static int countOf(Status status, Status counted) {
+        return status == counted ? 1 : 0;
+    }
+}
@@ -0,0 +1,246 @@
+package org.cinema.service.impl;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.cinema.model.SeatEvent;
+import org.cinema.service.SeatEventService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@Service
+@Slf4j
+public class SeatEventServiceImpl implements SeatEventService {
+
+    private static final SeatEvent HEARTBEAT = new SeatEvent(null, null, List.of());
+
+    @Value("${cinema.seat-events.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${cinema.seat-events.timeout-minutes:30}")
+    private long timeoutMinutes;
+
+    @Value("${cinema.seat-events.send-timeout-millis:5000}")
+    private long sendTimeoutMillis;
+
+    private final ConcurrentMap<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private ExecutorService sender;
+
+    // A send blocks while the client's TCP window is full. Sender threads are created on demand so that
+    // a stalled client only holds its own thread until it is dropped, never one other subscribers wait for.
+    @PostConstruct
+    void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        sender = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "seat-events-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.values().forEach(sessionSubscribers -> sessionSubscribers.forEach(Subscriber::close));
+        sender.shutdownNow();
+    }
+
+    @Override
+    public SseEmitter subscribe(Long sessionId, Supplier<List<Integer>> snapshot) {
+        SseEmitter emitter = createEmitter(TimeUnit.MINUTES.toMillis(timeoutMinutes));
+        Subscriber subscriber = new Subscriber(sessionId, emitter);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        // Membership and the map entry change together, so a subscriber is never added to a set that
+        // a concurrent removal of the last subscriber is dropping from the map.
+        subscribers.compute(sessionId, (id, sessionSubscribers) -> {
+            Set<Subscriber> set = sessionSubscribers != null ? sessionSubscribers : ConcurrentHashMap.newKeySet();
+            set.add(subscriber);
+            return set;
+        });
+        try {
+            subscriber.start(new SeatEvent(SeatEvent.Type.SNAPSHOT, sessionId, List.copyOf(snapshot.get())));
+        } catch (RuntimeException e) {
+            remove(subscriber);
+            throw e;
+        }
+        log.debug("Client subscribed to seat events of session {}.", sessionId);
+        return emitter;
+    }
+
+    @Override
+    public void publish(SeatEvent event) {
+        Set<Subscriber> sessionSubscribers = subscribers.get(event.sessionId());
+        if (sessionSubscribers != null) {
+            sessionSubscribers.forEach(subscriber -> subscriber.offer(event));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${cinema.seat-events.heartbeat-millis:20000}")
+    public void sendHeartbeats() {
+        subscribers.values().forEach(sessionSubscribers ->
+                sessionSubscribers.forEach(subscriber -> subscriber.offer(HEARTBEAT)));
+    }
+
+    /**
+     * Drops the subscribers whose current send has not completed within the send timeout.
+     * Their connections are completed with an error and they receive no further events.
+     *
+     * @return the number of dropped subscribers.
+     */
+    @Scheduled(fixedDelayString = "${cinema.seat-events.stall-check-millis:1000}")
+    public int dropStalledSubscribers() {
+        long now = System.nanoTime();
+        long sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        int dropped = 0;
+        for (Set<Subscriber> sessionSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : sessionSubscribers) {
+                if (subscriber.dropIfStalled(now, sendTimeoutNanos)) {
+                    dropped++;
+                }
+            }
+        }
+        return dropped;
+    }
+
+    SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private void remove(Subscriber subscriber) {
+        AtomicBoolean removed = new AtomicBoolean();
+        subscribers.computeIfPresent(subscriber.sessionId, (id, sessionSubscribers) -> {
+            removed.set(sessionSubscribers.remove(subscriber));
+            return sessionSubscribers.isEmpty() ? null : sessionSubscribers;
+        });
+        if (removed.get()) {
+            log.debug("Client unsubscribed from seat events of session {}.", subscriber.sessionId);
+        }
+    }
+
+    private final class Subscriber {
+
+        private final Long sessionId;
+        private final SseEmitter emitter;
+        private final ArrayDeque<SeatEvent> buffer = new ArrayDeque<>();
+        private boolean started;
+        private boolean draining;
+        private boolean closed;
+        private volatile long sendStartedNanos;
+
+        private Subscriber(Long sessionId, SseEmitter emitter) {
+            this.sessionId = sessionId;
+            this.emitter = emitter;
+        }
+
+        // Events published before the snapshot was read are kept and replayed after it; seat deltas are idempotent.
+        private void start(SeatEvent snapshot) {
+            synchronized (this) {
+                buffer.addFirst(snapshot);
+                started = true;
+            }
+            scheduleDrain();
+        }
+
+        private void offer(SeatEvent event) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (buffer.size() >= bufferSize) {
+                    log.warn("Seat event buffer of a subscriber of session {} is full, disconnecting it.", sessionId);
+                    closed = true;
+                    buffer.clear();
+                    sender.execute(this::close);
+                    return;
+                }
+                buffer.addLast(event);
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            synchronized (this) {
+                if (!started || draining || closed || buffer.isEmpty()) {
+                    return;
+                }
+                draining = true;
+            }
+            sender.execute(this::drain);
+        }
+
+        private void drain() {
+            while (true) {
+                SeatEvent event;
+                synchronized (this) {
+                    event = closed ? null : buffer.pollFirst();
+                    if (event == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+                sendStartedNanos = System.nanoTime();
+                try {
+                    if (event == HEARTBEAT) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else {
+                        emitter.send(SseEmitter.event()
+                                .name(event.type().name())
+                                .data(event, MediaType.APPLICATION_JSON));
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    synchronized (this) {
+                        closed = true;
+                        draining = false;
+                        buffer.clear();
+                    }
+                    remove(this);
+                    return;
+                } finally {
+                    sendStartedNanos = 0;
+                }
+            }
+        }
+
+        private boolean dropIfStalled(long now, long sendTimeoutNanos) {
+            long startedNanos = sendStartedNanos;
+            if (startedNanos == 0 || now - startedNanos < sendTimeoutNanos) {
+                return false;
+            }
+            synchronized (this) {
+                if (closed) {
+                    return false;
+                }
+                closed = true;
+                buffer.clear();
+            }
+            log.warn("Seat event send to a subscriber of session {} stalled, disconnecting it.", sessionId);
+            remove(this);
+            // Completing does not wait for the blocked send; the container closes the connection, which fails it.
+            emitter.completeWithError(new TimeoutException("Seat event send stalled."));
+            return true;
+        }
+
+        private void close() {
+            remove(this);
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package org.cinema.service.impl;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.cinema.model.SeatHold;
+import org.cinema.repository.TicketRepository;
+import org.cinema.model.Status;
+import org.cinema.service.SeatCounterService;
+import org.cinema.service.SeatHoldService;
+import org.cinema.service.SeatInventoryService;
+import org.cinema.util.HashedTimingWheel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class SeatHoldServiceImpl implements SeatHoldService {
+
+    private static final int WHEEL_SIZE = 512;
+    private static final int BATCH_SIZE = 500;
+
+    private final TicketRepository ticketRepository;
+    private final SeatInventoryService seatInventoryService;
+    private final SeatCounterService seatCounterService;
+    private final TransactionTemplate transactionTemplate;
+    private final ConcurrentMap<Long, SeatHold> holds = new ConcurrentHashMap<>();
+
+    @Value("${cinema.seat-hold.ttl-minutes:15}")
+    private long ttlMinutes;
+
+    @Value("${cinema.seat-hold.tick-millis:1000}")
+    private long tickMillis;
+
+    private HashedTimingWheel<Long> timingWheel;
+
+    @PostConstruct
+    public void init() {
+        timingWheel = new HashedTimingWheel<>(tickMillis, WHEEL_SIZE, System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreHolds() {
+        List<SeatHold> pendingHolds = ticketRepository.findPendingPurchaseHolds();
+        pendingHolds.forEach(this::hold);
+        log.info("{} seat hold(s) restored.", pendingHolds.size());
+    }
+
+    @Override
+    public void hold(SeatHold seatHold) {
+        LocalDateTime purchaseTime = seatHold.purchaseTime() != null ? seatHold.purchaseTime() : LocalDateTime.now();
+        long deadline = purchaseTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                + TimeUnit.MINUTES.toMillis(ttlMinutes);
+
+        holds.put(seatHold.ticketId(), seatHold);
+        timingWheel.schedule(seatHold.ticketId(), deadline);
+    }
+
+    @Override
+    public Optional<SeatHold> release(Long ticketId) {
+        SeatHold seatHold = holds.remove(ticketId);
+        if (seatHold != null) {
+            timingWheel.cancel(ticketId);
+        }
+        return Optional.ofNullable(seatHold);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${cinema.seat-hold.tick-millis:1000}")
+    public int expireHolds() {
+        List<SeatHold> expiredHolds = timingWheel.advance(System.currentTimeMillis()).stream()
+                .map(holds::remove)
+                .filter(Objects::nonNull)
+                .toList();
+
+        for (int from = 0; from < expiredHolds.size(); from += BATCH_SIZE) {
+            cancelExpiredHolds(expiredHolds.subList(from, Math.min(from + BATCH_SIZE, expiredHolds.size())));
+        }
+        return expiredHolds.size();
+    }
+
+    private void cancelExpiredHolds(List<SeatHold> expiredHolds) {
+        Map<Long, List<Long>> ticketIdsBySession = expiredHolds.stream().collect(Collectors.groupingBy(
+                SeatHold::sessionId, Collectors.mapping(SeatHold::ticketId, Collectors.toList())));
+        Integer cancelled;
+        try {
+            cancelled = transactionTemplate.execute(status -> {
+                int total = 0;
+                for (Map.Entry<Long, List<Long>> entry : ticketIdsBySession.entrySet()) {
+                    int count = ticketRepository.cancelPendingPurchases(entry.getValue());
+                    seatCounterService.ticketsChanged(entry.getKey(), Status.PENDING, Status.CANCELLED, count);
+                    total += count;
+                }
+                return total;
+            });
+        } catch (Exception e) {
+            log.error("Failed to cancel {} expired seat hold(s), retrying on next tick: {}",
+                    expiredHolds.size(), e.getMessage());
+            expiredHolds.forEach(this::hold);
+            return;
+        }
+
+        if (cancelled != null && cancelled == expiredHolds.size()) {
+            expiredHolds.forEach(seatHold -> seatInventoryService.release(seatHold.sessionId(), seatHold.seatNumber()));
+        } else {
+            expiredHolds.stream()
+                    .map(SeatHold::sessionId)
+                    .distinct()
+                    .forEach(seatInventoryService::evict);
+        }
+        log.info("{} expired seat hold(s) cancelled.", cancelled);
+    }
+}
@@ -0,0 +1,163 @@
+package org.cinema.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.cinema.model.FilmSession;
+import org.cinema.model.SeatEvent;
+import org.cinema.repository.TicketRepository;
+import org.cinema.service.ResourceVersionService;
+import org.cinema.service.SeatEventService;
+import org.cinema.service.SeatInventoryService;
+import org.cinema.util.StripedLock;
+import org.cinema.util.TransactionUtil;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class SeatInventoryServiceImpl implements SeatInventoryService {
+
+    private static final int LOCK_STRIPES = Runtime.getRuntime().availableProcessors() * 16;
+
+    private final TicketRepository ticketRepository;
+    private final ResourceVersionService resourceVersionService;
+    private final SeatEventService seatEventService;
+    private final ConcurrentMap<Long, SeatMap> seatMaps = new ConcurrentHashMap<>();
+    private final StripedLock sessionLocks = new StripedLock(LOCK_STRIPES);
+
+    @Override
+    public boolean reserve(FilmSession session, int seatNumber) {
+        return reserveAll(session, List.of(seatNumber));
+    }
+
+    @Override
+    public boolean reserveAll(FilmSession session, Collection<Integer> seatNumbers) {
+        SeatMap seatMap = getSeatMap(session);
+        Lock lock = sessionLocks.get(session.getId());
+        lock.lock();
+        try {
+            for (int seatNumber : seatNumbers) {
+                if (seatMap.seats.get(seatNumber)) {
+                    return false;
+                }
+            }
+            seatNumbers.forEach(seatMap.seats::set);
+        } finally {
+            lock.unlock();
+        }
+        resourceVersionService.sessionChanged(session.getId());
+        // TAKEN is only published on commit, so a rolled back reservation is undone without any event.
+        TransactionUtil.afterRollback(() -> clear(session.getId(), seatMap, seatNumbers));
+        TransactionUtil.afterCommit(() -> seatEventService.publish(
+                new SeatEvent(SeatEvent.Type.TAKEN, session.getId(), List.copyOf(seatNumbers))));
+        return true;
+    }
+
+    @Override
+    public void release(Long sessionId, int seatNumber) {
+        SeatMap seatMap = seatMaps.get(sessionId);
+        if (seatMap != null && clear(sessionId, seatMap, List.of(seatNumber))) {
+            seatEventService.publish(new SeatEvent(SeatEvent.Type.RELEASED, sessionId, List.of(seatNumber)));
+        }
+    }
+
+    @Override
+    public List<Integer> getTakenSeats(FilmSession session) {
+        SeatMap seatMap = getSeatMap(session);
+        Lock lock = sessionLocks.get(session.getId());
+        lock.lock();
+        try {
+            return seatMap.seats.stream().boxed().toList();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public BitSet getTakenSeatSet(FilmSession session) {
+        SeatMap seatMap = getSeatMap(session);
+        Lock lock = sessionLocks.get(session.getId());
+        lock.lock();
+        try {
+            return (BitSet) seatMap.seats.clone();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${cinema.seat-inventory.evict-millis:3600000}")
+    public int evictPastSessions() {
+        LocalDate today = LocalDate.now();
+        int evicted = 0;
+        for (Map.Entry<Long, SeatMap> entry : seatMaps.entrySet()) {
+            LocalDate date = entry.getValue().date();
+            if (date != null && date.isBefore(today) && seatMaps.remove(entry.getKey(), entry.getValue())) {
+                evicted++;
+            }
+        }
+        if (evicted > 0) {
+            log.info("{} seat map(s) of past sessions evicted.", evicted);
+        }
+        return evicted;
+    }
+
+    @Override
+    public void evict(Long sessionId) {
+        if (seatMaps.remove(sessionId) != null) {
+            log.debug("Seat map of session {} evicted.", sessionId);
+        }
+        resourceVersionService.sessionChanged(sessionId);
+        seatEventService.publish(new SeatEvent(SeatEvent.Type.RESYNC, sessionId, List.of()));
+    }
+
+    // Loads without holding the session lock, so a cold load never stalls other sessions on the same stripe.
+    // When two threads load concurrently, the map installed first wins and the other copy is discarded.
+    private SeatMap getSeatMap(FilmSession session) {
+        Long sessionId = session.getId();
+        int capacity = session.getCapacity();
+        SeatMap seatMap = seatMaps.get(sessionId);
+        if (seatMap != null && seatMap.capacity == capacity) {
+            return seatMap;
+        }
+        SeatMap loaded = load(sessionId, capacity, session.getDate());
+        return seatMaps.compute(sessionId,
+                (id, current) -> current != null && current.capacity == capacity ? current : loaded);
+    }
+
+    private SeatMap load(Long sessionId, int capacity, LocalDate date) {
+        BitSet seats = new BitSet(capacity + 1);
+        ticketRepository.findActiveSeatNumbersBySessionId(sessionId).forEach(seats::set);
+        log.debug("Seat map of session {} loaded with {} taken seat(s).", sessionId, seats.cardinality());
+        return new SeatMap(capacity, date, seats);
+    }
+
+    // Leaves a map that has been evicted or replaced untouched: its successor was loaded from the database,
+    // where the seats may meanwhile belong to someone else.
+    private boolean clear(Long sessionId, SeatMap seatMap, Collection<Integer> seatNumbers) {
+        Lock lock = sessionLocks.get(sessionId);
+        lock.lock();
+        try {
+            if (seatMaps.get(sessionId) != seatMap) {
+                return false;
+            }
+            seatNumbers.forEach(seatMap.seats::clear);
+        } finally {
+            lock.unlock();
+        }
+        resourceVersionService.sessionChanged(sessionId);
+        return true;
+    }
+
+    private record SeatMap(int capacity, LocalDate date, BitSet seats) {
+    }
+}
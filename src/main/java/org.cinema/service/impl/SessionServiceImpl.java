@@ -1,25 +1,44 @@
 package org.cinema.service.impl;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.cinema.dto.filmSessionDTO.FilmSessionCreateDTO;
+import org.cinema.dto.filmSessionDTO.FilmSessionFilterDTO;
+import org.cinema.dto.filmSessionDTO.FilmSessionPageDTO;
 import org.cinema.dto.filmSessionDTO.FilmSessionResponseDTO;
+import org.cinema.dto.filmSessionDTO.FilmSessionScheduleDTO;
 import org.cinema.dto.filmSessionDTO.FilmSessionUpdateDTO;
 import org.cinema.exception.EntityAlreadyExistException;
 import org.cinema.exception.NoDataFoundException;
 import org.cinema.mapper.filmSessionMapper.FilmSessionCreateMapper;
-import org.cinema.mapper.filmSessionMapper.FilmSessionResponseMapper;
 import org.cinema.mapper.filmSessionMapper.FilmSessionUpdateMapper;
+import org.cinema.mapper.filmSessionMapper.FilmSessionViewMapper;
 import org.cinema.model.FilmSession;
 import org.cinema.model.Movie;
 import org.cinema.repository.MovieRepository;
 import org.cinema.repository.SessionRepository;
+import org.cinema.service.ResourceVersionService;
+import org.cinema.service.ScheduleCacheService;
+import org.cinema.service.SeatInventoryService;
 import org.cinema.service.SessionService;
+import org.cinema.util.IntervalIndex;
+import org.cinema.util.TransactionUtil;
 import org.cinema.util.ValidationUtil;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,8 +46,16 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class SessionServiceImpl implements SessionService {
 
+    private static final int MAX_SCHEDULE_DAYS = 366;
+    private static final int MAX_SCHEDULED_SESSIONS = 5000;
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final SessionRepository sessionRepository;
     private final MovieRepository movieRepository;
+    private final SeatInventoryService seatInventoryService;
+    private final ScheduleCacheService scheduleCacheService;
+    private final ResourceVersionService resourceVersionService;
 
     @Override
     @Transactional
@@ -41,9 +68,10 @@ public class SessionServiceImpl implements SessionService {
         FilmSession filmSession = FilmSessionCreateMapper.INSTANCE.toEntity(createDTO);
         filmSession.setMovie(movie);
 
-        checkForOverlappingSessions(movieId, filmSession);
+        checkForOverlappingSessions(List.of(filmSession), null);
 
         sessionRepository.save(filmSession);
+        evictSchedulesAfterCommit(filmSession.getDate());
         log.info("Film session successfully added for movie '{}'.", filmSession.getMovie().getTitle());
         return "Success! Film session successfully added.";
     }
@@ -59,41 +87,163 @@ public class SessionServiceImpl implements SessionService {
         FilmSession filmSession = FilmSessionUpdateMapper.INSTANCE.toEntity(updateDTO);
         filmSession.setMovie(movie);
 
+        checkForOverlappingSessions(List.of(filmSession), filmSession.getId());
+        LocalDate previousDate = sessionRepository.findDateById(filmSession.getId()).orElse(null);
+
         sessionRepository.save(filmSession);
+        evictSchedulesAfterCommit(previousDate, filmSession.getDate());
+        TransactionUtil.afterCommit(() -> resourceVersionService.sessionChanged(filmSession.getId()));
         log.info("Film session successfully updated with id '{}'.", filmSession.getId());
         return "Success! Film session successfully updated.";
     }
 
+    @Override
+    @Transactional
+    public String schedule(FilmSessionScheduleDTO scheduleDTO) {
+        Movie movie = findMovieById(scheduleDTO.getMovieId());
+        List<FilmSession> filmSessions = expandSchedule(scheduleDTO, movie);
+
+        checkForOverlappingSessions(filmSessions, null);
+
+        sessionRepository.saveAll(filmSessions);
+        sessionRepository.flush();
+        evictSchedulesAfterCommit(filmSessions.stream().map(FilmSession::getDate).toArray(LocalDate[]::new));
+        log.info("{} film sessions scheduled for movie '{}' from {} to {}.", filmSessions.size(), movie.getTitle(),
+                scheduleDTO.getStartDate(), scheduleDTO.getEndDate());
+        return "Success! " + filmSessions.size() + " film sessions successfully scheduled.";
+    }
+
     @Override
     @Transactional
     public String delete(String id) {
         Long sessionId = ValidationUtil.parseLong(id);
+        LocalDate date = sessionRepository.findDateById(sessionId).orElse(null);
         sessionRepository.deleteById(sessionId);
+        TransactionUtil.afterCommit(() -> seatInventoryService.evict(sessionId));
+        evictSchedulesAfterCommit(date);
         log.info("Film session successfully deleted with id '{}'.", id);
         return "Success! Film session successfully deleted.";
     }
 
     @Override
+    @Transactional(readOnly = true)
     public FilmSessionResponseDTO getById(String id) {
         Long sessionId = ValidationUtil.parseLong(id);
-        return sessionRepository.findById(sessionId)
-                .map(FilmSessionResponseMapper.INSTANCE::toDTO)
+        return sessionRepository.findViewById(sessionId)
+                .map(FilmSessionViewMapper.INSTANCE::toDTO)
                 .orElseThrow(() -> new NoDataFoundException("Film session not found."));
     }
 
     @Override
     public List<FilmSessionResponseDTO> findAll() {
-        return sessionRepository.findAll().stream()
-                .map(FilmSessionResponseMapper.INSTANCE::toDTO)
-                .collect(Collectors.toList());
+        return scheduleCacheService.getAll(() -> sessionRepository.findAllViews().stream()
+                .map(FilmSessionViewMapper.INSTANCE::toDTO)
+                .collect(Collectors.toList()));
     }
 
     @Override
     public List<FilmSessionResponseDTO> findByDate(String dateStr) {
-        ValidationUtil.validateDate(LocalDate.parse(dateStr));
-        return sessionRepository.findByDate(LocalDate.parse(dateStr)).stream()
-                .map(FilmSessionResponseMapper.INSTANCE::toDTO)
+        LocalDate date = LocalDate.parse(dateStr);
+        ValidationUtil.validateDate(date);
+        return scheduleCacheService.getByDate(date, () -> sessionRepository.findViewsByDate(date).stream()
+                .map(FilmSessionViewMapper.INSTANCE::toDTO)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public FilmSessionPageDTO findUpcoming(FilmSessionFilterDTO filter) {
+        int size = filter.getSize() != null ? filter.getSize() : DEFAULT_PAGE_SIZE;
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+        if (filter.getFrom() != null && filter.getTo() != null && filter.getTo().isBefore(filter.getFrom())) {
+            throw new IllegalArgumentException("End date cannot be before start date.");
+        }
+
+        LocalDate afterDate;
+        LocalTime afterStartTime;
+        long afterId;
+        if (filter.getAfterDate() != null && filter.getAfterStartTime() != null && filter.getAfterId() != null) {
+            afterDate = filter.getAfterDate();
+            afterStartTime = filter.getAfterStartTime();
+            afterId = filter.getAfterId();
+        } else {
+            LocalDateTime now = LocalDateTime.now();
+            boolean fromToday = filter.getFrom() == null || !filter.getFrom().isAfter(now.toLocalDate());
+            afterDate = fromToday ? now.toLocalDate() : filter.getFrom();
+            afterStartTime = fromToday ? now.toLocalTime() : LocalTime.MIN;
+            afterId = 0L;
+        }
+
+        List<FilmSessionResponseDTO> sessions = sessionRepository.findViewsAfter(afterDate, afterStartTime, afterId,
+                        filter.getTo(), filter.isAvailableOnly(), Limit.of(size + 1)).stream()
+                .map(FilmSessionViewMapper.INSTANCE::toDTO)
                 .collect(Collectors.toList());
+
+        boolean hasMore = sessions.size() > size;
+        List<FilmSessionResponseDTO> page = hasMore ? sessions.subList(0, size) : sessions;
+        FilmSessionResponseDTO last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return FilmSessionPageDTO.builder()
+                .sessions(page)
+                .nextAfterDate(last != null ? last.getDate() : null)
+                .nextAfterStartTime(last != null ? last.getStartTime() : null)
+                .nextAfterId(last != null ? last.getId() : null)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    private void evictSchedulesAfterCommit(LocalDate... dates) {
+        List<LocalDate> changedDates = Arrays.stream(dates).filter(Objects::nonNull).distinct().toList();
+        TransactionUtil.afterCommit(() -> {
+            scheduleCacheService.evict(changedDates);
+            resourceVersionService.schedulesChanged(changedDates);
+        });
+    }
+
+    private List<FilmSession> expandSchedule(FilmSessionScheduleDTO scheduleDTO, Movie movie) {
+        ValidationUtil.validatePrice(scheduleDTO.getPrice());
+        ValidationUtil.validateCapacity(scheduleDTO.getCapacity());
+        ValidationUtil.validateDate(scheduleDTO.getStartDate());
+        LocalDate startDate = scheduleDTO.getStartDate();
+        LocalDate endDate = scheduleDTO.getEndDate();
+        if (endDate == null || endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("End date cannot be before start date.");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_SCHEDULE_DAYS) {
+            throw new IllegalArgumentException("Schedule cannot span more than " + MAX_SCHEDULE_DAYS + " days.");
+        }
+        if (scheduleDTO.getStartTimes() == null || scheduleDTO.getStartTimes().isEmpty()) {
+            throw new IllegalArgumentException("Start times cannot be null or empty.");
+        }
+        if (scheduleDTO.getDurationMinutes() == null || scheduleDTO.getDurationMinutes() <= 0) {
+            throw new IllegalArgumentException("Duration must be a positive number of minutes.");
+        }
+
+        Set<DayOfWeek> daysOfWeek = scheduleDTO.getDaysOfWeek() == null || scheduleDTO.getDaysOfWeek().isEmpty()
+                ? EnumSet.allOf(DayOfWeek.class)
+                : EnumSet.copyOf(scheduleDTO.getDaysOfWeek());
+        List<LocalTime> startTimes = scheduleDTO.getStartTimes().stream().distinct().sorted().toList();
+        startTimes.forEach(startTime -> ValidationUtil.validateTime(startTime,
+                startTime.plusMinutes(scheduleDTO.getDurationMinutes())));
+
+        List<FilmSession> filmSessions = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            if (!daysOfWeek.contains(date.getDayOfWeek())) {
+                continue;
+            }
+            for (LocalTime startTime : startTimes) {
+                filmSessions.add(new FilmSession(null, movie, scheduleDTO.getPrice(), date, startTime,
+                        startTime.plusMinutes(scheduleDTO.getDurationMinutes()), scheduleDTO.getCapacity(), 0, 0));
+            }
+            if (filmSessions.size() > MAX_SCHEDULED_SESSIONS) {
+                throw new IllegalArgumentException("No more than " + MAX_SCHEDULED_SESSIONS +
+                        " film sessions can be scheduled at once.");
+            }
+        }
+        if (filmSessions.isEmpty()) {
+            throw new IllegalArgumentException("The schedule does not match any date in the range.");
+        }
+        return filmSessions;
     }
 
     private Movie findMovieById(Long movieId) {
@@ -101,10 +251,25 @@ public class SessionServiceImpl implements SessionService {
                 .orElseThrow(() -> new NoDataFoundException("Movie with ID " + movieId + " doesn't exist!"));
     }
 
-    private void checkForOverlappingSessions(Long movieId, FilmSession filmSession) {
-        if (sessionRepository.existsOverlappingSession(movieId, filmSession.getDate(),
-                filmSession.getStartTime(), filmSession.getEndTime())) {
-            throw new EntityAlreadyExistException("Film session already exists on this film and time. Try again.");
+    // Checks the sessions against the stored sessions of their dates, read with one query, and each other.
+    private void checkForOverlappingSessions(Collection<FilmSession> filmSessions, Long excludedSessionId) {
+        Set<LocalDate> dates = filmSessions.stream().map(FilmSession::getDate).collect(Collectors.toSet());
+        IntervalIndex<MovieDate, LocalTime> index = new IntervalIndex<>();
+        sessionRepository.findIntervalsByDates(dates).stream()
+                .filter(interval -> !interval.id().equals(excludedSessionId))
+                .forEach(interval -> index.add(new MovieDate(interval.movieId(), interval.date()),
+                        interval.startTime(), interval.endTime()));
+
+        for (FilmSession filmSession : filmSessions) {
+            MovieDate key = new MovieDate(filmSession.getMovie().getId(), filmSession.getDate());
+            if (!index.tryAdd(key, filmSession.getStartTime(), filmSession.getEndTime())) {
+                log.warn("Film session of movie {} on {} at {}-{} overlaps another session.", key.movieId(),
+                        key.date(), filmSession.getStartTime(), filmSession.getEndTime());
+                throw new EntityAlreadyExistException("Film session already exists on this film and time. Try again.");
+            }
         }
     }
+
+    private record MovieDate(Long movieId, LocalDate date) {
+    }
 }
\ No newline at end of file
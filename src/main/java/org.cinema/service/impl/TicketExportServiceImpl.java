@@ -0,0 +1,97 @@
+package org.cinema.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.cinema.mapper.ticketMapper.TicketViewMapper;
+import org.cinema.model.ExportFormat;
+import org.cinema.repository.TicketExportRepository;
+import org.cinema.repository.projection.TicketView;
+import org.cinema.service.TicketExportService;
+import org.springframework.stereotype.Service;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TicketExportServiceImpl implements TicketExportService {
+
+    private static final String CSV_HEADER = "id,userId,username,sessionId,movieId,movieTitle,date,startTime," +
+            "endTime,price,seatNumber,purchaseTime,status,requestType";
+    private static final int FLUSH_EVERY_ROWS = 1000;
+
+    private final TicketExportRepository ticketExportRepository;
+    private final ObjectMapper objectMapper;
+
+    private ObjectWriter jsonWriter;
+
+    @PostConstruct
+    void init() {
+        jsonWriter = objectMapper.writer();
+    }
+
+    @Override
+    public long export(ExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        long exported;
+        try (Stream<TicketView> tickets = ticketExportRepository.streamAllViews()) {
+            exported = writeRows(format, tickets.iterator(), writer);
+        }
+        writer.flush();
+        log.info("{} tickets exported as {}.", exported, format.getValue());
+        return exported;
+    }
+
+    private long writeRows(ExportFormat format, Iterator<TicketView> tickets, Writer writer) throws IOException {
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        long count = 0;
+        while (tickets.hasNext()) {
+            TicketView ticket = tickets.next();
+            if (format == ExportFormat.CSV) {
+                writeCsvRow(ticket, writer);
+            } else {
+                writer.write(jsonWriter.writeValueAsString(TicketViewMapper.INSTANCE.toDTO(ticket)));
+            }
+            writer.write('\n');
+            if (++count % FLUSH_EVERY_ROWS == 0) {
+                writer.flush();
+            }
+        }
+        return count;
+    }
+
+    private void writeCsvRow(TicketView ticket, Writer writer) throws IOException {
+        Object[] values = {ticket.id(), ticket.userId(), ticket.username(), ticket.sessionId(), ticket.movieId(),
+                ticket.movieTitle(), ticket.date(), ticket.startTime(), ticket.endTime(), ticket.price(),
+                ticket.seatNumber(), ticket.purchaseTime(), ticket.status(), ticket.requestType()};
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values[i]));
+        }
+    }
+
+    private String escapeCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -1,26 +1,44 @@
 package org.cinema.service.impl;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.cinema.dto.filmSessionDTO.FilmSessionResponseDTO;
+import org.cinema.dto.ticketDTO.TicketBatchPurchaseDTO;
+import org.cinema.dto.ticketDTO.TicketBulkActionResultDTO;
 import org.cinema.dto.ticketDTO.TicketCreateDTO;
+import org.cinema.dto.ticketDTO.TicketFilterDTO;
+import org.cinema.dto.ticketDTO.TicketPageDTO;
 import org.cinema.dto.ticketDTO.TicketResponseDTO;
 import org.cinema.dto.ticketDTO.TicketUpdateDTO;
 import org.cinema.exception.EntityAlreadyExistException;
 import org.cinema.exception.NoDataFoundException;
 import org.cinema.mapper.filmSessionMapper.FilmSessionResponseMapper;
 import org.cinema.mapper.ticketMapper.TicketCreateMapper;
-import org.cinema.mapper.ticketMapper.TicketResponseMapper;
+import org.cinema.mapper.ticketMapper.TicketViewMapper;
 import org.cinema.model.*;
 import org.cinema.repository.SessionRepository;
 import org.cinema.repository.TicketRepository;
 import org.cinema.repository.UserRepository;
+import org.cinema.repository.projection.TicketState;
+import org.cinema.repository.projection.TicketView;
+import org.cinema.service.SeatCounterService;
+import org.cinema.service.SeatHoldService;
+import org.cinema.service.SeatInventoryService;
 import org.cinema.service.TicketService;
+import org.cinema.util.SeatMapUtil;
+import org.cinema.util.TransactionUtil;
 import org.cinema.util.ValidationUtil;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,9 +46,21 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TicketServiceImpl implements TicketService {
 
+    private static final String SEAT_UNIQUE_CONSTRAINT = "uk_ticket_session_seat";
+    private static final int BULK_CHUNK_SIZE = 500;
+    private static final int MAX_BULK_TICKETS = 10_000;
+    private static final String BULK_SUCCESS = "SUCCESS";
+    private static final String BULK_REJECTED = "REJECTED";
+    private static final String BULK_NOT_FOUND = "NOT_FOUND";
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final TicketRepository ticketRepository;
     private final UserRepository userRepository;
     private final SessionRepository sessionRepository;
+    private final SeatInventoryService seatInventoryService;
+    private final SeatHoldService seatHoldService;
+    private final SeatCounterService seatCounterService;
 
     @Override
     @Transactional
@@ -41,10 +71,14 @@ public class TicketServiceImpl implements TicketService {
         FilmSession filmSession = checkSessionById(createDTO.getSessionId());
 
         ValidationUtil.validateSeatNumber(createDTO.getSeatNumber(), filmSession.getCapacity());
-        checkTicketExistence(filmSession.getId(), Integer.parseInt(createDTO.getSeatNumber()));
+        if (isActive(status)) {
+            reserveSeat(filmSession, createDTO.getSeatNumber());
+        }
 
         Ticket ticket = createTicketFromDTO(createDTO, user, filmSession, status, requestType);
-        ticketRepository.save(ticket);
+        saveTicket(ticket);
+        seatCounterService.ticketsChanged(filmSession.getId(), null, status, 1);
+        holdSeatAfterCommit(ticket);
         log.info("Ticket successfully added for movie '{}'.", filmSession.getMovie().getTitle());
         return "Success! Ticket was successfully added to the database!";
     }
@@ -60,6 +94,8 @@ public class TicketServiceImpl implements TicketService {
         FilmSession filmSession = checkSessionById(updateDTO.getSessionId());
 
         ValidationUtil.validateSeatNumber(updateDTO.getSeatNumber(), filmSession.getCapacity());
+        Long previousSessionId = existingTicket.getFilmSession().getId();
+        Status previousStatus = existingTicket.getStatus();
 
         existingTicket.setStatus(status);
         existingTicket.setRequestType(requestType);
@@ -67,7 +103,19 @@ public class TicketServiceImpl implements TicketService {
         existingTicket.setFilmSession(filmSession);
         existingTicket.setSeatNumber(updateDTO.getSeatNumber());
 
-        ticketRepository.save(existingTicket);
+        saveTicket(existingTicket);
+        if (previousSessionId.equals(filmSession.getId())) {
+            seatCounterService.ticketsChanged(previousSessionId, previousStatus, status, 1);
+        } else {
+            seatCounterService.ticketsChanged(previousSessionId, previousStatus, null, 1);
+            seatCounterService.ticketsChanged(filmSession.getId(), null, status, 1);
+        }
+        TransactionUtil.afterCommit(() -> {
+            seatHoldService.release(existingTicket.getId());
+            seatInventoryService.evict(previousSessionId);
+            seatInventoryService.evict(filmSession.getId());
+        });
+        holdSeatAfterCommit(existingTicket);
         log.info("Ticket successfully updated with id '{}'.", existingTicket.getId());
         return "Success! Ticket was successfully updated in the database!";
     }
@@ -76,32 +124,74 @@ public class TicketServiceImpl implements TicketService {
     @Transactional
     public String delete(String ticketIdStr) {
         Long ticketId = ValidationUtil.parseLong(ticketIdStr);
-        ticketRepository.deleteById(ticketId);
+        ticketRepository.findById(ticketId).ifPresent(ticket -> {
+            ticketRepository.delete(ticket);
+            Long sessionId = ticket.getFilmSession().getId();
+            seatCounterService.ticketsChanged(sessionId, ticket.getStatus(), null, 1);
+            TransactionUtil.afterCommit(() -> {
+                seatHoldService.release(ticketId);
+                seatInventoryService.evict(sessionId);
+            });
+        });
         log.info("Ticket successfully deleted with id '{}'.", ticketId);
         return "Success! Ticket was successfully deleted!";
     }
 
     @Override
+    @Transactional(readOnly = true)
     public TicketResponseDTO getById(String ticketIdStr) {
         Long ticketId = ValidationUtil.parseLong(ticketIdStr);
-        return ticketRepository.findById(ticketId)
-                .map(TicketResponseMapper.INSTANCE::toDTO)
+        return ticketRepository.findViewById(ticketId)
+                .map(TicketViewMapper.INSTANCE::toDTO)
                 .orElseThrow(() -> new NoDataFoundException("Ticket with ID " +
                         ticketId + " doesn't exist!"));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<TicketResponseDTO> findAll() {
-        List<Ticket> tickets = ticketRepository.findAll();
+        List<TicketView> tickets = ticketRepository.findAllViews();
         if (tickets.isEmpty()) {
             throw new NoDataFoundException("No tickets found in the database.");
         }
         log.info("{} tickets retrieved successfully.", tickets.size());
         return tickets.stream()
-                .map(TicketResponseMapper.INSTANCE::toDTO)
+                .map(TicketViewMapper.INSTANCE::toDTO)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public TicketPageDTO findPage(TicketFilterDTO filter) {
+        int size = filter.getSize() != null ? filter.getSize() : DEFAULT_PAGE_SIZE;
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+        Status status = filter.getStatus() != null ? Status.valueOf(filter.getStatus().toUpperCase()) : null;
+        RequestType requestType = filter.getRequestType() != null
+                ? RequestType.valueOf(filter.getRequestType().toUpperCase()) : null;
+
+        List<TicketView> tickets = ticketRepository.findPage(
+                filter.getAfterId() != null ? filter.getAfterId() : 0L,
+                status,
+                requestType,
+                filter.getSessionId(),
+                filter.getFrom() != null ? filter.getFrom().atStartOfDay() : null,
+                filter.getTo() != null ? filter.getTo().plusDays(1).atStartOfDay() : null,
+                Limit.of(size + 1));
+
+        boolean hasMore = tickets.size() > size;
+        List<TicketResponseDTO> page = tickets.stream()
+                .limit(size)
+                .map(TicketViewMapper.INSTANCE::toDTO)
+                .toList();
+        return TicketPageDTO.builder()
+                .tickets(page)
+                .nextAfterId(page.isEmpty() ? null : page.get(page.size() - 1).getId())
+                .hasMore(hasMore)
+                .build();
+    }
+
     @Override
     @Transactional
     public String purchaseTicket(TicketCreateDTO ticketCreateDTO) {
@@ -109,94 +199,207 @@ public class TicketServiceImpl implements TicketService {
         FilmSession session = checkSessionById(ticketCreateDTO.getSessionId());
 
         ValidationUtil.validateSeatNumber(ticketCreateDTO.getSeatNumber(), session.getCapacity());
-        checkTicketExistence(session.getId(), Integer.parseInt(ticketCreateDTO.getSeatNumber()));
+        reserveSeat(session, ticketCreateDTO.getSeatNumber());
 
         Ticket ticket = createTicketFromDTO(ticketCreateDTO, user, session, Status.PENDING, RequestType.PURCHASE);
-        ticketRepository.save(ticket);
+        saveTicket(ticket);
+        seatCounterService.ticketsChanged(session.getId(), null, Status.PENDING, 1);
+        holdSeatAfterCommit(ticket);
         log.info("Ticket successfully purchased for session {} and seat {}.", session.getId(), ticket.getSeatNumber());
         return "Success! Ticket purchased, awaiting confirmation.";
     }
 
     @Override
+    @Transactional
+    public String purchaseTickets(TicketBatchPurchaseDTO batchPurchaseDTO) {
+        User user = checkUserById(batchPurchaseDTO.getUserId());
+        FilmSession session = checkSessionById(batchPurchaseDTO.getSessionId());
+
+        List<Integer> seatNumbers = ValidationUtil.validateSeatNumbers(batchPurchaseDTO.getSeatNumbers(),
+                session.getCapacity());
+        if (!seatInventoryService.reserveAll(session, seatNumbers)) {
+            throw new EntityAlreadyExistException("One of the selected seats is already taken. Try again.");
+        }
+
+        List<Ticket> tickets = seatNumbers.stream()
+                .map(seatNumber -> TicketCreateDTO.builder().seatNumber(seatNumber).build())
+                .map(createDTO -> createTicketFromDTO(createDTO, user, session, Status.PENDING, RequestType.PURCHASE))
+                .toList();
+        saveTickets(tickets);
+        seatCounterService.ticketsChanged(session.getId(), null, Status.PENDING, tickets.size());
+        tickets.forEach(this::holdSeatAfterCommit);
+        log.info("{} tickets successfully purchased for session {} and seats {}.",
+                tickets.size(), session.getId(), seatNumbers);
+        return "Success! " + tickets.size() + " tickets purchased, awaiting confirmation.";
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public FilmSessionResponseDTO getSessionDetailsWithTickets(String sessionIdStr) {
-        Long sessionId = ValidationUtil.parseLong(sessionIdStr);
-        FilmSession session = checkSessionById(sessionId);
+        return getSessionDetailsWithTickets(sessionIdStr, SeatMapFormat.LIST);
+    }
 
-        List<Ticket> tickets = ticketRepository.findByFilmSessionId(sessionId);
-        List<Integer> takenSeats = tickets.stream()
-                .map(ticket -> Integer.parseInt(ticket.getSeatNumber()))
-                .collect(Collectors.toList());
+    @Override
+    @Transactional(readOnly = true)
+    public FilmSessionResponseDTO getSessionDetailsWithTickets(String sessionIdStr, SeatMapFormat format) {
+        Long sessionId = ValidationUtil.parseLong(sessionIdStr);
+        FilmSession session = sessionRepository.findWithMovieById(sessionId)
+                .orElseThrow(() -> new NoDataFoundException("Session with this ID doesn't exist!"));
 
         FilmSessionResponseDTO sessionResponseDTO = FilmSessionResponseMapper.INSTANCE.toDTO(session);
-        sessionResponseDTO.setTakenSeats(takenSeats);
+        switch (format) {
+            case LIST -> sessionResponseDTO.setTakenSeats(seatInventoryService.getTakenSeats(session));
+            case BITSET -> sessionResponseDTO.setTakenSeatsBitset(
+                    SeatMapUtil.toBase64(seatInventoryService.getTakenSeatSet(session)));
+            case RANGES -> sessionResponseDTO.setTakenSeatRanges(
+                    SeatMapUtil.toRanges(seatInventoryService.getTakenSeatSet(session)));
+        }
         return sessionResponseDTO;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<TicketResponseDTO> findByUserId(String id) {
         Long userId = ValidationUtil.parseLong(id);
-        List<Ticket> tickets = ticketRepository.findTicketsByUserId(userId);
+        List<TicketView> tickets = ticketRepository.findViewsByUserId(userId);
         if (tickets.isEmpty()) {
             throw new NoDataFoundException("Your tickets are absent!");
         }
 
         log.info("{} tickets found for user with ID: {}", tickets.size(), userId);
         return tickets.stream()
-                .map(TicketResponseMapper.INSTANCE::toDTO)
+                .map(TicketViewMapper.INSTANCE::toDTO)
                 .collect(Collectors.toList());
     }
 
     @Override
     @Transactional
-    public String processTicketAction(String action, Long ticketId) {
-        Ticket ticket = checkTicketById(ticketId);
-
-        return switch (action) {
-            case "confirm" -> confirmTicket(ticket);
-            case "return" -> returnTicket(ticket);
-            case "cancel" -> cancelTicket(ticket);
-            case "returnMyTicket" -> returnMyTicket(ticket);
-            default -> {
-                log.warn("Unknown action: {}", action);
-                yield "Unknown action.";
+    public String processTicketAction(String actionValue, Long ticketId) {
+        TicketAction action = TicketAction.fromValue(actionValue);
+        if (action == null) {
+            log.warn("Unknown action: {}", actionValue);
+            return "Unknown action.";
+        }
+
+        // The conditional update alone decides the outcome; the seat is read only once the ticket has moved.
+        Status sourceStatus = transition(action, ticketId);
+        if (sourceStatus == null) {
+            if (!ticketRepository.existsById(ticketId)) {
+                throw new NoDataFoundException("Ticket with this ID doesn't exist!");
             }
-        };
+            return action.getRejectedMessage();
+        }
+
+        TicketState ticket = ticketRepository.findStateById(ticketId)
+                .orElseThrow(() -> new NoDataFoundException("Ticket with this ID doesn't exist!"));
+        onTransition(action, ticket.toSeatHold());
+        if (action.getTargetStatus() != null) {
+            seatCounterService.ticketsChanged(ticket.sessionId(), sourceStatus, action.getTargetStatus(), 1);
+        }
+        log.info("Action '{}' applied to ticket with id '{}'.", action.getValue(), ticketId);
+        return action.getSuccessMessage();
     }
 
-    private String confirmTicket(Ticket ticket) {
-        if (ticket.getStatus() == Status.PENDING && ticket.getRequestType() == RequestType.PURCHASE) {
-            ticket.setStatus(Status.CONFIRMED);
-            ticketRepository.save(ticket);
-            return "Success! Ticket Confirmed!";
+    @Override
+    @Transactional
+    public TicketBulkActionResultDTO processTicketActions(String actionValue, List<Long> ticketIds) {
+        TicketAction action = TicketAction.fromValue(actionValue);
+        if (action == null) {
+            throw new IllegalArgumentException("Unknown action: " + actionValue);
+        }
+        if (ticketIds == null || ticketIds.isEmpty() || ticketIds.size() > MAX_BULK_TICKETS) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_BULK_TICKETS + " ticket IDs must be provided.");
+        }
+
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(ticketIds));
+        Map<Long, String> results = new LinkedHashMap<>();
+        distinctIds.forEach(id -> results.put(id, BULK_NOT_FOUND));
+
+        for (int from = 0; from < distinctIds.size(); from += BULK_CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + BULK_CHUNK_SIZE, distinctIds.size()));
+            processChunk(action, chunk, results);
         }
-        return "Invalid action for this ticket.";
+
+        Map<String, Long> counts = results.values().stream()
+                .collect(Collectors.groupingBy(result -> result, Collectors.counting()));
+        log.info("Bulk action '{}' applied to {} of {} ticket(s).", action.getValue(),
+                counts.getOrDefault(BULK_SUCCESS, 0L), distinctIds.size());
+        return TicketBulkActionResultDTO.builder()
+                .action(action.getValue())
+                .succeeded(counts.getOrDefault(BULK_SUCCESS, 0L).intValue())
+                .rejected(counts.getOrDefault(BULK_REJECTED, 0L).intValue())
+                .notFound(counts.getOrDefault(BULK_NOT_FOUND, 0L).intValue())
+                .results(results)
+                .build();
     }
 
-    private String returnMyTicket(Ticket ticket) {
-        if (ticket.getStatus() == Status.PENDING) {
-            ticket.setRequestType(RequestType.RETURN);
-            ticketRepository.save(ticket);
-            return "Success! Ticket Returned!";
+    private void processChunk(TicketAction action, List<Long> chunk, Map<Long, String> results) {
+        List<TicketState> eligible = ticketRepository.lockTicketsInState(chunk, action.getSourceStatuses(),
+                action.getSourceRequestTypes());
+        if (!eligible.isEmpty()) {
+            compareAndSet(action, eligible.stream().map(TicketState::ticketId).toList(), action.getSourceStatuses());
+            for (TicketState ticket : eligible) {
+                onTransition(action, ticket.toSeatHold());
+                results.put(ticket.ticketId(), BULK_SUCCESS);
+            }
+            updateSeatCounters(action, eligible);
+        }
+
+        if (eligible.size() < chunk.size()) {
+            List<Long> remaining = chunk.stream()
+                    .filter(id -> !BULK_SUCCESS.equals(results.get(id)))
+                    .toList();
+            ticketRepository.findExistingIds(remaining).forEach(id -> results.put(id, BULK_REJECTED));
         }
-        return "Ticket cannot be returned.";
     }
 
-    private String returnTicket(Ticket ticket) {
-        if (ticket.getRequestType() == RequestType.RETURN) {
-            ticket.setStatus(Status.RETURNED);
-            ticketRepository.save(ticket);
-            return "Success! Ticket Returned!";
+    /**
+     * Applies the action to a ticket with one conditional update per source status, so the update that
+     * matches both decides the outcome and tells which status the ticket left.
+     *
+     * @return the status the ticket left, or null if the ticket is not in a source state of the action.
+     */
+    private Status transition(TicketAction action, Long ticketId) {
+        List<Status> sourceStatuses = action.getSourceStatuses().stream().sorted().toList();
+        for (Status sourceStatus : sourceStatuses) {
+            if (compareAndSet(action, List.of(ticketId), Set.of(sourceStatus)) > 0) {
+                return sourceStatus;
+            }
         }
-        return "Invalid action for this ticket.";
+        return null;
     }
 
-    private String cancelTicket(Ticket ticket) {
-        if (ticket.getStatus() == Status.PENDING) {
-            ticket.setStatus(Status.CANCELLED);
-            ticketRepository.save(ticket);
-            return "Success! Ticket Cancelled!";
+    private int compareAndSet(TicketAction action, List<Long> ticketIds, Set<Status> sourceStatuses) {
+        if (action.getTargetStatus() != null) {
+            return ticketRepository.compareAndSetStatus(ticketIds, sourceStatuses,
+                    action.getSourceRequestTypes(), action.getTargetStatus());
         }
-        return "Invalid action for this ticket.";
+        return ticketRepository.compareAndSetRequestType(ticketIds, sourceStatuses,
+                action.getSourceRequestTypes(), action.getTargetRequestType());
+    }
+
+    /**
+     * Applies the in-memory side effects of a ticket transition: the seat hold of the ticket is dropped and,
+     * if the action frees the seat, the seat is released once the transaction commits.
+     */
+    private void onTransition(TicketAction action, SeatHold seat) {
+        seatHoldService.release(seat.ticketId())
+                .ifPresent(seatHold -> TransactionUtil.afterRollback(() -> seatHoldService.hold(seatHold)));
+        if (action.releasesSeat()) {
+            TransactionUtil.afterCommit(() -> seatInventoryService.release(seat.sessionId(), seat.seatNumber()));
+        }
+    }
+
+    private void updateSeatCounters(TicketAction action, List<TicketState> tickets) {
+        if (action.getTargetStatus() == null) {
+            return;
+        }
+        tickets.stream()
+                .collect(Collectors.groupingBy(TicketState::sessionId,
+                        Collectors.groupingBy(TicketState::status, Collectors.counting())))
+                .forEach((sessionId, counts) -> counts.forEach((sourceStatus, count) ->
+                        seatCounterService.ticketsChanged(sessionId, sourceStatus, action.getTargetStatus(),
+                                count.intValue())));
     }
 
     private User checkUserById(Long userId) {
@@ -214,12 +417,41 @@ public class TicketServiceImpl implements TicketService {
                 .orElseThrow(() -> new NoDataFoundException("Ticket with this ID doesn't exist!"));
     }
 
-    private void checkTicketExistence(Long sessionId, int seatNumber) {
-        if (ticketRepository.existsByFilmSessionIdAndSeatNumber(sessionId, String.valueOf(seatNumber))) {
+    private void saveTicket(Ticket ticket) {
+        saveTickets(List.of(ticket));
+    }
+
+    private void saveTickets(List<Ticket> tickets) {
+        try {
+            ticketRepository.saveAllAndFlush(tickets);
+        } catch (DataIntegrityViolationException e) {
+            String cause = String.valueOf(e.getMostSpecificCause().getMessage());
+            if (!cause.contains(SEAT_UNIQUE_CONSTRAINT)) {
+                throw e;
+            }
+            tickets.forEach(ticket -> seatInventoryService.evict(ticket.getFilmSession().getId()));
+            throw new EntityAlreadyExistException("Ticket already exists with this session and seat. Try again.");
+        }
+    }
+
+    private void reserveSeat(FilmSession session, int seatNumber) {
+        if (!seatInventoryService.reserve(session, seatNumber)) {
             throw new EntityAlreadyExistException("Ticket already exists with this session and seat. Try again.");
         }
     }
 
+    private void holdSeatAfterCommit(Ticket ticket) {
+        if (ticket.getStatus() == Status.PENDING && ticket.getRequestType() == RequestType.PURCHASE) {
+            SeatHold seatHold = new SeatHold(ticket.getId(), ticket.getFilmSession().getId(),
+                    ticket.getSeatNumber(), ticket.getPurchaseTime());
+            TransactionUtil.afterCommit(() -> seatHoldService.hold(seatHold));
+        }
+    }
+
+    private boolean isActive(Status status) {
+        return status == Status.PENDING || status == Status.CONFIRMED;
+    }
+
     private Ticket createTicketFromDTO(TicketCreateDTO createDTO, User user, FilmSession filmSession,
                                        Status status, RequestType requestType) {
         Ticket ticket = TicketCreateMapper.INSTANCE.toEntity(createDTO);
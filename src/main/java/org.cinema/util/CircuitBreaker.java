@@ -0,0 +1,163 @@
+package org.cinema.util;
+
+/**
+ * Count-based circuit breaker.
+ * While closed, the outcomes of the last calls are kept in a sliding window; once the window holds the
+ * minimum number of calls and the failure rate or slow call rate reaches its threshold, the breaker opens and
+ * rejects calls. After the open duration it lets a few probe calls through (half-open): if all of them succeed
+ * quickly it closes again, otherwise it reopens.
+ */
+public class CircuitBreaker {
+
+    /**
+     * The states of the breaker.
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureRateThreshold;
+    private final int slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final int minimumCalls;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final boolean[] failedCalls;
+    private final boolean[] slowCalls;
+    private int windowIndex;
+    private int windowCount;
+    private int failedCount;
+    private int slowCount;
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    /**
+     * Creates a closed breaker.
+     *
+     * @param failureRateThreshold the failure rate in percent that opens the breaker
+     * @param slowCallRateThreshold the slow call rate in percent that opens the breaker
+     * @param slowCallMillis the duration from which a call counts as slow
+     * @param windowSize the number of recent calls the rates are computed over
+     * @param minimumCalls the number of calls needed before the rates are evaluated
+     * @param openMillis how long the breaker stays open before probing
+     * @param halfOpenCalls the number of probe calls in the half-open state
+     */
+    public CircuitBreaker(int failureRateThreshold, int slowCallRateThreshold, long slowCallMillis,
+                          int windowSize, int minimumCalls, long openMillis, int halfOpenCalls) {
+        if (windowSize <= 0 || minimumCalls <= 0 || minimumCalls > windowSize || halfOpenCalls <= 0) {
+            throw new IllegalArgumentException("Window size, minimum calls and half-open calls must be positive, " +
+                    "and minimum calls must not exceed the window size.");
+        }
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallNanos = slowCallMillis * 1_000_000L;
+        this.minimumCalls = minimumCalls;
+        this.openNanos = openMillis * 1_000_000L;
+        this.halfOpenCalls = halfOpenCalls;
+        this.failedCalls = new boolean[windowSize];
+        this.slowCalls = new boolean[windowSize];
+    }
+
+    /**
+     * Asks for permission to make a call. Every permitted call must be followed by {@link #onResult}.
+     *
+     * @return true if the call may proceed, false if the breaker rejects it
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAtNanos < openNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            halfOpenPermits = halfOpenCalls;
+            halfOpenSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits == 0) {
+                return false;
+            }
+            halfOpenPermits--;
+        }
+        return true;
+    }
+
+    /**
+     * Records the outcome of a permitted call.
+     *
+     * @param failed whether the call failed
+     * @param durationNanos the duration of the call
+     */
+    public synchronized void onResult(boolean failed, long durationNanos) {
+        boolean slow = durationNanos >= slowCallNanos;
+        if (state == State.HALF_OPEN) {
+            if (failed || slow) {
+                open();
+            } else if (++halfOpenSuccesses == halfOpenCalls) {
+                close();
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            return;
+        }
+
+        if (windowCount == failedCalls.length) {
+            failedCount -= failedCalls[windowIndex] ? 1 : 0;
+            slowCount -= slowCalls[windowIndex] ? 1 : 0;
+        } else {
+            windowCount++;
+        }
+        failedCalls[windowIndex] = failed;
+        slowCalls[windowIndex] = slow;
+        failedCount += failed ? 1 : 0;
+        slowCount += slow ? 1 : 0;
+        windowIndex = (windowIndex + 1) % failedCalls.length;
+
+        if (windowCount >= minimumCalls && (failedCount * 100 >= failureRateThreshold * windowCount
+                || slowCount * 100 >= slowCallRateThreshold * windowCount)) {
+            open();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the state and rates of the breaker.
+     *
+     * @return the current metrics
+     */
+    public synchronized Metrics metrics() {
+        double failureRate = windowCount == 0 ? 0.0 : failedCount * 100.0 / windowCount;
+        double slowCallRate = windowCount == 0 ? 0.0 : slowCount * 100.0 / windowCount;
+        return new Metrics(state, windowCount, failureRate, slowCallRate);
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAtNanos = System.nanoTime();
+        resetWindow();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        resetWindow();
+    }
+
+    private void resetWindow() {
+        windowIndex = 0;
+        windowCount = 0;
+        failedCount = 0;
+        slowCount = 0;
+    }
+
+    /**
+     * State and rates of the breaker.
+     *
+     * @param state the current state
+     * @param calls the number of calls in the sliding window
+     * @param failureRate the failure rate of the window in percent
+     * @param slowCallRate the slow call rate of the window in percent
+     */
+    public record Metrics(State state, int calls, double failureRate, double slowCallRate) {
+    }
+}
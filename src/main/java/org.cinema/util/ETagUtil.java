@@ -0,0 +1,34 @@
+package org.cinema.util;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Utility class for evaluating {@code If-None-Match} request headers.
+ */
+public class ETagUtil {
+
+    /**
+     * Checks whether an {@code If-None-Match} header matches the current entity tag, using weak comparison.
+     *
+     * @param ifNoneMatch the header value, possibly a comma-separated list or {@code *}
+     * @param eTag the current quoted entity tag
+     * @return true if the client already has the current representation
+     */
+    public static boolean matches(String ifNoneMatch, String eTag) {
+        if (StringUtils.isBlank(ifNoneMatch)) {
+            return false;
+        }
+        String currentTag = stripWeakPrefix(eTag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || stripWeakPrefix(tag).equals(currentTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeakPrefix(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
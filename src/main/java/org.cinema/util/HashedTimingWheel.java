@@ -0,0 +1,97 @@
+package org.cinema.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hashed timing wheel that tracks deadlines of keys in O(1) per schedule and cancel.
+ * Keys are hashed into buckets by the tick of their deadline; advancing the wheel only
+ * visits the buckets of the elapsed ticks, so the cost does not depend on the number of pending keys.
+ * Deadlines are rounded down to the tick resolution.
+ *
+ * @param <K> the type of the scheduled keys
+ */
+public class HashedTimingWheel<K> {
+
+    private final long tickMillis;
+    private final List<Map<K, Long>> buckets;
+    private final Map<K, Integer> bucketIndex = new HashMap<>();
+    private long lastTick;
+
+    /**
+     * Creates a wheel whose first tick starts at the given time.
+     *
+     * @param tickMillis the duration of one tick in milliseconds
+     * @param wheelSize the number of buckets
+     * @param startMillis the current time in milliseconds
+     */
+    public HashedTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("Tick duration and wheel size must be positive.");
+        }
+        this.tickMillis = tickMillis;
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new HashMap<>());
+        }
+        this.lastTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Schedules the key to expire at the given deadline, replacing a previous deadline of the same key.
+     *
+     * @param key the key to schedule
+     * @param deadlineMillis the deadline in milliseconds
+     */
+    public synchronized void schedule(K key, long deadlineMillis) {
+        cancel(key);
+        long deadlineTick = Math.max(deadlineMillis / tickMillis, lastTick + 1);
+        int index = (int) (deadlineTick % buckets.size());
+        buckets.get(index).put(key, deadlineTick);
+        bucketIndex.put(key, index);
+    }
+
+    /**
+     * Removes the key from the wheel.
+     *
+     * @param key the key to cancel
+     * @return true if the key was scheduled, otherwise false
+     */
+    public synchronized boolean cancel(K key) {
+        Integer index = bucketIndex.remove(key);
+        if (index == null) {
+            return false;
+        }
+        buckets.get(index).remove(key);
+        return true;
+    }
+
+    /**
+     * Advances the wheel to the given time and removes all keys whose deadline has passed.
+     *
+     * @param nowMillis the current time in milliseconds
+     * @return the expired keys
+     */
+    public synchronized List<K> advance(long nowMillis) {
+        long nowTick = nowMillis / tickMillis;
+        List<K> expired = new ArrayList<>();
+        long ticksToVisit = Math.min(nowTick - lastTick, buckets.size());
+
+        for (long tick = nowTick - ticksToVisit + 1; tick <= nowTick; tick++) {
+            Iterator<Map.Entry<K, Long>> iterator = buckets.get((int) (tick % buckets.size())).entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<K, Long> entry = iterator.next();
+                if (entry.getValue() <= nowTick) {
+                    expired.add(entry.getKey());
+                    bucketIndex.remove(entry.getKey());
+                    iterator.remove();
+                }
+            }
+        }
+        lastTick = Math.max(lastTick, nowTick);
+        return expired;
+    }
+}
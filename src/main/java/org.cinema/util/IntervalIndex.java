@@ -0,0 +1,80 @@
+package org.cinema.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Index of half-open intervals {@code [start, end)} grouped by key, answering overlap queries in O(log n).
+ * Overlapping intervals of one key are merged when added, so each key holds disjoint intervals sorted by start
+ * and only the interval starting right before the end of a query can overlap it.
+ *
+ * @param <K> the type of the keys
+ * @param <P> the type of the interval bounds
+ */
+public class IntervalIndex<K, P extends Comparable<? super P>> {
+
+    private final Map<K, TreeMap<P, P>> intervals = new HashMap<>();
+
+    /**
+     * Checks whether the interval overlaps any interval of the key.
+     *
+     * @param key the key
+     * @param start the inclusive start of the interval
+     * @param end the exclusive end of the interval
+     * @return true if an overlapping interval exists, otherwise false
+     */
+    public boolean overlaps(K key, P start, P end) {
+        TreeMap<P, P> keyIntervals = intervals.get(key);
+        if (keyIntervals == null) {
+            return false;
+        }
+        Map.Entry<P, P> candidate = keyIntervals.lowerEntry(end);
+        return candidate != null && candidate.getValue().compareTo(start) > 0;
+    }
+
+    /**
+     * Adds the interval to the key, merging it with the intervals it overlaps.
+     *
+     * @param key the key
+     * @param start the inclusive start of the interval
+     * @param end the exclusive end of the interval
+     */
+    public void add(K key, P start, P end) {
+        TreeMap<P, P> keyIntervals = intervals.computeIfAbsent(key, k -> new TreeMap<>());
+        P mergedStart = start;
+        P mergedEnd = end;
+        Map.Entry<P, P> overlapping;
+        while ((overlapping = keyIntervals.lowerEntry(mergedEnd)) != null
+                && overlapping.getValue().compareTo(mergedStart) > 0) {
+            keyIntervals.remove(overlapping.getKey());
+            mergedStart = min(mergedStart, overlapping.getKey());
+            mergedEnd = max(mergedEnd, overlapping.getValue());
+        }
+        keyIntervals.put(mergedStart, mergedEnd);
+    }
+
+    /**
+     * Adds the interval to the key unless it overlaps an existing interval.
+     *
+     * @param key the key
+     * @param start the inclusive start of the interval
+     * @param end the exclusive end of the interval
+     * @return true if the interval was added, false if it overlaps
+     */
+    public boolean tryAdd(K key, P start, P end) {
+        if (overlaps(key, start, end)) {
+            return false;
+        }
+        intervals.computeIfAbsent(key, k -> new TreeMap<>()).put(start, end);
+        return true;
+    }
+
+    private P min(P first, P second) {
+        return first.compareTo(second) <= 0 ? first : second;
+    }
+
+    private P max(P first, P second) {
+        return first.compareTo(second) >= 0 ? first : second;
+    }
+}
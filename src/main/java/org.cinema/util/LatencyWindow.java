@@ -0,0 +1,64 @@
+package org.cinema.util;
+
+import java.util.Arrays;
+
+/**
+ * Sliding window of the latencies of the most recent calls, for percentile-based timeouts.
+ */
+public class LatencyWindow {
+
+    private final long[] latencies;
+    private int index;
+    private int count;
+
+    /**
+     * Creates a window over the given number of most recent calls.
+     *
+     * @param size the number of latencies kept
+     */
+    public LatencyWindow(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Window size must be positive.");
+        }
+        this.latencies = new long[size];
+    }
+
+    /**
+     * Records the latency of a call, replacing the oldest one when the window is full.
+     *
+     * @param latency the latency in any unit
+     */
+    public synchronized void record(long latency) {
+        latencies[index] = latency;
+        index = (index + 1) % latencies.length;
+        count = Math.min(count + 1, latencies.length);
+    }
+
+    /**
+     * Returns the given percentile of the recorded latencies (nearest-rank).
+     *
+     * @param percentile the percentile between 0 and 100
+     * @return the latency at the percentile, or -1 if nothing was recorded
+     */
+    public long percentile(double percentile) {
+        long[] sorted;
+        synchronized (this) {
+            if (count == 0) {
+                return -1;
+            }
+            sorted = Arrays.copyOf(latencies, count);
+        }
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(rank, sorted.length) - 1)];
+    }
+
+    /**
+     * Returns the number of recorded latencies, at most the window size.
+     *
+     * @return the number of latencies in the window
+     */
+    public synchronized int size() {
+        return count;
+    }
+}
@@ -0,0 +1,185 @@
+package org.cinema.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Bounded cache that evicts the least recently used entry when full and drops entries older than a fixed TTL.
+ * Values are loaded outside the lock, and a load that overlaps an invalidation is returned but not cached,
+ * so an invalidation is never undone by a load that read the old state.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public class LruTtlCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LinkedHashMap<K, Entry<V>> entries;
+    private long generation;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Creates a cache holding at most the given number of entries for at most the given time.
+     *
+     * @param maxSize the maximum number of entries
+     * @param ttlMillis the time to live of an entry in milliseconds
+     */
+    public LruTtlCache(int maxSize, long ttlMillis) {
+        if (maxSize <= 0 || ttlMillis <= 0) {
+            throw new IllegalArgumentException("Cache size and TTL must be positive.");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Returns the cached value of the key, loading and caching it on a miss.
+     *
+     * @param key the key
+     * @param loader the function computing the value of a missing key
+     * @return the cached or loaded value
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && !entry.isExpired(System.nanoTime())) {
+                hits++;
+                return entry.value;
+            }
+            if (entry != null) {
+                entries.remove(key);
+                evictions++;
+            }
+            misses++;
+            loadGeneration = generation;
+        }
+
+        V value = loader.apply(key);
+        synchronized (this) {
+            if (value != null && loadGeneration == generation) {
+                entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+                evictOverflow();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Returns the cached value of the key without loading it.
+     *
+     * @param key the key
+     * @return the cached value, or null if the key is missing or expired
+     */
+    public synchronized V getIfPresent(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null && !entry.isExpired(System.nanoTime())) {
+            hits++;
+            return entry.value;
+        }
+        if (entry != null) {
+            entries.remove(key);
+            evictions++;
+        }
+        misses++;
+        return null;
+    }
+
+    /**
+     * Caches the value of the key for the full TTL of the cache.
+     *
+     * @param key the key
+     * @param value the value
+     */
+    public void put(K key, V value) {
+        put(key, value, ttlNanos / 1_000_000L);
+    }
+
+    /**
+     * Caches the value of the key for the given time, but no longer than the TTL of the cache.
+     *
+     * @param key the key
+     * @param value the value
+     * @param ttlMillis the time to live of the entry in milliseconds
+     */
+    public synchronized void put(K key, V value, long ttlMillis) {
+        long entryTtlNanos = Math.min(ttlNanos, ttlMillis * 1_000_000L);
+        if (value == null || entryTtlNanos <= 0) {
+            return;
+        }
+        entries.put(key, new Entry<>(value, System.nanoTime() + entryTtlNanos));
+        evictOverflow();
+    }
+
+    /**
+     * Returns a copy of the unexpired entries, from least to most recently used.
+     *
+     * @return the cached values by key
+     */
+    public synchronized Map<K, V> snapshot() {
+        long now = System.nanoTime();
+        Map<K, V> snapshot = new LinkedHashMap<>();
+        entries.forEach((key, entry) -> {
+            if (!entry.isExpired(now)) {
+                snapshot.put(key, entry.value);
+            }
+        });
+        return snapshot;
+    }
+
+    /**
+     * Removes the entry of the key.
+     *
+     * @param key the key
+     */
+    public synchronized void invalidate(K key) {
+        generation++;
+        entries.remove(key);
+    }
+
+    /**
+     * Returns a snapshot of the cache counters.
+     *
+     * @return the current statistics
+     */
+    public synchronized Stats stats() {
+        return new Stats(entries.size(), maxSize, hits, misses, evictions);
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext() && entries.size() > maxSize) {
+            iterator.next();
+            iterator.remove();
+            evictions++;
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAtNanos) {
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+
+    /**
+     * Cache counters since creation.
+     *
+     * @param size the current number of entries
+     * @param maxSize the maximum number of entries
+     * @param hits the number of lookups served from the cache
+     * @param misses the number of lookups that had to load the value
+     * @param evictions the number of entries dropped because the cache was full or the entry expired
+     */
+    public record Stats(int size, int maxSize, long hits, long misses, long evictions) {
+        public double hitRate() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0.0 : (double) hits / lookups;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.cinema.util;
+
+import java.util.Base64;
+import java.util.BitSet;
+
+/**
+ * Utility class for the compact encodings of a session's taken seats.
+ */
+public class SeatMapUtil {
+
+    /**
+     * Encodes the taken seats as a base64 bitset: seat {@code n} is bit {@code n % 8} (least significant first)
+     * of byte {@code n / 8}. Trailing free seats are omitted.
+     *
+     * @param seats the taken seats
+     * @return the base64 encoded bitset
+     */
+    public static String toBase64(BitSet seats) {
+        return Base64.getEncoder().encodeToString(seats.toByteArray());
+    }
+
+    /**
+     * Encodes the taken seats as comma-separated runs, for example {@code 1-120,125,130-500}.
+     *
+     * @param seats the taken seats
+     * @return the run-length encoded ranges, empty if no seat is taken
+     */
+    public static String toRanges(BitSet seats) {
+        StringBuilder ranges = new StringBuilder();
+        int start = seats.nextSetBit(0);
+        while (start >= 0) {
+            int end = seats.nextClearBit(start) - 1;
+            if (!ranges.isEmpty()) {
+                ranges.append(',');
+            }
+            ranges.append(start);
+            if (end > start) {
+                ranges.append('-').append(end);
+            }
+            start = seats.nextSetBit(end + 1);
+        }
+        return ranges.toString();
+    }
+}
@@ -0,0 +1,80 @@
+package org.cinema.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls with the same key into one execution.
+ * The first caller of a key runs the call; callers arriving while it is in flight share its result or failure.
+ * Once the call completes the key is free again, so results are never cached beyond the flight.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the results
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> flights = new ConcurrentHashMap<>();
+
+    /**
+     * Runs an asynchronous call unless a call with the same key is already in flight.
+     *
+     * @param key the key identifying identical calls
+     * @param call the supplier starting the call
+     * @return the future of the call in flight
+     */
+    public CompletableFuture<V> executeAsync(K key, Supplier<CompletableFuture<V>> call) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = flights.putIfAbsent(key, flight);
+        if (existing != null) {
+            return existing;
+        }
+
+        CompletableFuture<V> result;
+        try {
+            result = call.get();
+        } catch (Throwable e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        result.whenComplete((value, error) -> {
+            flights.remove(key, flight);
+            if (error != null) {
+                flight.completeExceptionally(unwrap(error));
+            } else {
+                flight.complete(value);
+            }
+        });
+        return flight;
+    }
+
+    /**
+     * Runs a blocking call in the current thread unless a call with the same key is already in flight,
+     * in which case the current thread waits for that call instead.
+     *
+     * @param key the key identifying identical calls
+     * @param call the supplier performing the call
+     * @return the result of the call
+     */
+    public V execute(K key, Supplier<V> call) {
+        try {
+            return executeAsync(key, () -> {
+                try {
+                    return CompletableFuture.completedFuture(call.get());
+                } catch (Throwable e) {
+                    return CompletableFuture.failedFuture(e);
+                }
+            }).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
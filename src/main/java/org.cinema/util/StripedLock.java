@@ -0,0 +1,53 @@
+package org.cinema.util;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fixed array of locks selected by the hash of a key.
+ * Keys that map to different stripes never contend, while memory stays bounded
+ * regardless of how many distinct keys are locked over time.
+ */
+public class StripedLock {
+
+    private final Lock[] locks;
+    private final int mask;
+
+    /**
+     * Creates a striped lock with at least the given number of stripes, rounded up to a power of two.
+     *
+     * @param minStripes the minimum number of stripes
+     */
+    public StripedLock(int minStripes) {
+        if (minStripes <= 0) {
+            throw new IllegalArgumentException("Number of stripes must be positive.");
+        }
+        int stripes = minStripes == 1 ? 1 : Integer.highestOneBit((minStripes - 1) << 1);
+        this.locks = new Lock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.mask = stripes - 1;
+    }
+
+    /**
+     * Returns the lock guarding the given key.
+     *
+     * @param key the key to lock
+     * @return the lock of the stripe the key belongs to
+     */
+    public Lock get(Object key) {
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return locks[hash & mask];
+    }
+
+    /**
+     * Returns the number of stripes.
+     *
+     * @return the number of stripes
+     */
+    public int size() {
+        return locks.length;
+    }
+}
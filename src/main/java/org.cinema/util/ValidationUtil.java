@@ -5,10 +5,16 @@ import org.apache.commons.lang3.StringUtils;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 @Slf4j
 public class ValidationUtil {
 
+    private static final int MAX_SEATS_PER_PURCHASE = 10;
+
     public static void validateIsPositive(int id) {
         if (id <= 0) {
             log.error("Validation failed: ID '{}' is not positive", id);
@@ -81,18 +87,36 @@ public class ValidationUtil {
         }
     }
 
-    public static void validateSeatNumber(String seatNumberStr, int capacity) {
-        validateNotBlank(seatNumberStr, "Seat number");
-        try {
-            int seatNum = Integer.parseInt(seatNumberStr);
-            if (seatNum > capacity || seatNum <= 0) {
-                log.error("Validation failed: seat number '{}' is invalid for capacity '{}'", seatNum, capacity);
-                throw new IllegalArgumentException("Seat number exceeds the session's capacity or is not positive.");
+    public static void validateSeatNumber(Integer seatNumber, int capacity) {
+        if (seatNumber == null) {
+            log.error("Validation failed: seat number is null");
+            throw new IllegalArgumentException("Seat number cannot be null.");
+        }
+        if (seatNumber > capacity || seatNumber <= 0) {
+            log.error("Validation failed: seat number '{}' is invalid for capacity '{}'", seatNumber, capacity);
+            throw new IllegalArgumentException("Seat number exceeds the session's capacity or is not positive.");
+        }
+    }
+
+    public static List<Integer> validateSeatNumbers(List<Integer> seatNumbers, int capacity) {
+        if (seatNumbers == null || seatNumbers.isEmpty()) {
+            log.error("Validation failed: seat numbers are null or empty");
+            throw new IllegalArgumentException("Seat numbers cannot be null or empty.");
+        }
+        if (seatNumbers.size() > MAX_SEATS_PER_PURCHASE) {
+            log.error("Validation failed: {} seats requested, limit is {}", seatNumbers.size(), MAX_SEATS_PER_PURCHASE);
+            throw new IllegalArgumentException("No more than " + MAX_SEATS_PER_PURCHASE + " seats can be purchased at once.");
+        }
+
+        Set<Integer> distinctSeats = new LinkedHashSet<>();
+        for (Integer seatNumber : seatNumbers) {
+            validateSeatNumber(seatNumber, capacity);
+            if (!distinctSeats.add(seatNumber)) {
+                log.error("Validation failed: seat number '{}' is requested twice", seatNumber);
+                throw new IllegalArgumentException("Seat number " + seatNumber + " is requested more than once.");
             }
-        } catch (NumberFormatException e) {
-            log.error("Validation failed: seat number '{}' has invalid format", seatNumberStr);
-            throw new IllegalArgumentException("Invalid seat number format.");
         }
+        return new ArrayList<>(distinctSeats);
     }
 
     public static long parseLong(String id) {
@@ -0,0 +1,16 @@
+-- Databases created before this key may already hold two active tickets for one seat, which would make the
+-- unique index below fail. Keep one ticket per seat (a confirmed one if any, otherwise the oldest) and cancel
+-- the newer duplicates so the index can be built.
+UPDATE `ticket` t
+    JOIN (SELECT `id`
+          FROM (SELECT `id`,
+                       ROW_NUMBER() OVER (PARTITION BY `session_id`, `seat_number`
+                           ORDER BY `status` = 'CONFIRMED' DESC, `id`) AS `seat_rank`
+                FROM `ticket`
+                WHERE `status` IN ('PENDING', 'CONFIRMED')) ranked
+          WHERE `seat_rank` > 1) duplicate ON duplicate.`id` = t.`id`
+SET t.`status` = 'CANCELLED';
+
+ALTER TABLE `ticket`
+    ADD COLUMN `active_seat` TINYINT GENERATED ALWAYS AS (IF(`status` IN ('PENDING', 'CONFIRMED'), 1, NULL)) STORED,
+    ADD UNIQUE INDEX `uk_ticket_session_seat` (`session_id`, `seat_number`, `active_seat`);
@@ -0,0 +1,10 @@
+CREATE TABLE `id_generator`
+(
+    `sequence_name` VARCHAR(255) NOT NULL COLLATE 'utf8mb4_0900_ai_ci',
+    `next_val`      BIGINT       NOT NULL,
+    PRIMARY KEY (`sequence_name`) USING BTREE
+);
+
+-- Pooled optimizer: the stored value is the upper bound of the next block of 50 ids.
+INSERT INTO `id_generator` (`sequence_name`, `next_val`)
+SELECT 'ticket', COALESCE(MAX(`id`), 0) + 50 FROM `ticket`;
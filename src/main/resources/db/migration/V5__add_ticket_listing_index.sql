@@ -0,0 +1 @@
+CREATE INDEX `idx_ticket_status_type_id` ON `ticket` (`status`, `request_type`, `id`);
@@ -0,0 +1,4 @@
+ALTER TABLE `ticket`
+    MODIFY COLUMN `seat_number` INT NOT NULL;
+
+CREATE INDEX `idx_film_session_date_start_time` ON `film_session` (`date`, `start_time`);
@@ -0,0 +1,3 @@
+-- Pooled optimizer: the stored value is the upper bound of the next block of 50 ids.
+INSERT INTO `id_generator` (`sequence_name`, `next_val`)
+SELECT 'film_session', COALESCE(MAX(`id`), 0) + 50 FROM `film_session`;
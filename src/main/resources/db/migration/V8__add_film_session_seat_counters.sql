@@ -0,0 +1,7 @@
+ALTER TABLE `film_session`
+    ADD COLUMN `held_seats` INT NOT NULL DEFAULT 0,
+    ADD COLUMN `sold_seats` INT NOT NULL DEFAULT 0;
+
+UPDATE `film_session` fs
+SET fs.`held_seats` = (SELECT COUNT(*) FROM `ticket` t WHERE t.`session_id` = fs.`id` AND t.`status` = 'PENDING'),
+    fs.`sold_seats` = (SELECT COUNT(*) FROM `ticket` t WHERE t.`session_id` = fs.`id` AND t.`status` = 'CONFIRMED');
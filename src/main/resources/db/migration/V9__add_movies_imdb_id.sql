@@ -0,0 +1,32 @@
+ALTER TABLE `movies`
+    ADD COLUMN `imdb_id` VARCHAR(20) NULL DEFAULT NULL COLLATE 'utf8mb4_0900_ai_ci' AFTER `id`,
+    ADD UNIQUE INDEX `uk_movies_imdb_id` (`imdb_id`);
+
+-- Every search used to insert its results again, so a title can exist many times. Keep the oldest row
+-- of each title and year, move the sessions of the copies onto it (deleting a movie cascades to its
+-- sessions), then drop the copies.
+CREATE TEMPORARY TABLE `movie_duplicates`
+SELECT m.`id`, kept.`id` AS `kept_id`
+FROM `movies` m
+         JOIN (SELECT `title`, `year`, MIN(`id`) AS `id`
+               FROM `movies`
+               GROUP BY `title`, `year`
+               HAVING COUNT(*) > 1) kept ON kept.`title` = m.`title` AND kept.`year` <=> m.`year`
+WHERE m.`id` <> kept.`id`;
+
+UPDATE `film_session` fs
+    JOIN `movie_duplicates` d ON d.`id` = fs.`movie_id`
+SET fs.`movie_id` = d.`kept_id`;
+
+DELETE m
+FROM `movies` m
+         JOIN `movie_duplicates` d ON d.`id` = m.`id`;
+
+DROP TEMPORARY TABLE `movie_duplicates`;
+
+-- Seed movies
+UPDATE `movies` SET `imdb_id` = 'tt1375666' WHERE `title` = 'Inception' AND `year` = '2010';
+UPDATE `movies` SET `imdb_id` = 'tt0468569' WHERE `title` = 'The Dark Knight' AND `year` = '2008';
+UPDATE `movies` SET `imdb_id` = 'tt0816692' WHERE `title` = 'Interstellar' AND `year` = '2014';
+UPDATE `movies` SET `imdb_id` = 'tt1160419' WHERE `title` = 'Dune' AND `year` = '2021';
+UPDATE `movies` SET `imdb_id` = 'tt0120689' WHERE `title` = 'The Green Mile' AND `year` = '1999';
@@ -0,0 +1,214 @@
+package org.cinema.client.impl;
+
+import com.sun.net.httpserver.HttpServer;
+import org.cinema.exception.NoDataFoundException;
+import org.cinema.exception.OmdbApiException;
+import org.cinema.exception.OmdbUnavailableException;
+import org.cinema.util.CircuitBreaker;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the OMDB client and its circuit breaker against a local stub of the OMDB API
+ * that can be told to answer slowly or with errors.
+ */
+@SpringJUnitConfig(classes = {OmdbClientImpl.class, CircuitBreakingOmdbClient.class, JacksonAutoConfiguration.class})
+@TestPropertySource(properties = {
+        "omdb.api.key=test",
+        "omdb.api.max-in-flight=2",
+        "omdb.circuit-breaker.window-size=4",
+        "omdb.circuit-breaker.minimum-calls=4",
+        "omdb.circuit-breaker.open-millis=300",
+        "omdb.circuit-breaker.half-open-calls=2",
+        "omdb.circuit-breaker.slow-call-millis=1000",
+        "omdb.timeout.percentile=50",
+        "omdb.timeout.min-millis=100",
+        "omdb.timeout.max-millis=400"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class CircuitBreakingOmdbClientTest {
+
+    private static final HttpServer STUB = startStub();
+    private static final AtomicInteger REQUESTS = new AtomicInteger();
+    private static volatile int stubStatus;
+    private static volatile long stubDelayMillis;
+
+    @Autowired
+    private CircuitBreakingOmdbClient client;
+
+    @DynamicPropertySource
+    static void omdbProperties(DynamicPropertyRegistry registry) {
+        registry.add("omdb.api.url", () -> "http://127.0.0.1:" + STUB.getAddress().getPort() + "/");
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.stop(0);
+    }
+
+    @BeforeEach
+    void resetStub() {
+        stubStatus = 200;
+        stubDelayMillis = 0;
+        REQUESTS.set(0);
+    }
+
+    @Test
+    void opensAfterErrorsAndRejectsWithoutCallingOmdb() {
+        stubStatus = 500;
+        for (int i = 0; i < 4; i++) {
+            assertInstanceOf(OmdbApiException.class, failureOf(client.getMovieDetails("tt" + i)));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, client.getMetrics().state());
+
+        Throwable rejection = failureOf(client.getMovieDetails("tt1375666"));
+        assertInstanceOf(OmdbUnavailableException.class, rejection);
+        assertEquals(4, REQUESTS.get());
+    }
+
+    @Test
+    void closesAgainAfterSuccessfulProbes() throws InterruptedException {
+        stubStatus = 500;
+        for (int i = 0; i < 4; i++) {
+            failureOf(client.getMovieDetails("tt" + i));
+        }
+        stubStatus = 200;
+        Thread.sleep(350);
+
+        assertEquals("Inception", client.getMovieDetails("tt1375666").join().getTitle());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, client.getMetrics().state());
+        assertEquals("Inception", client.getMovieDetails("tt1375666").join().getTitle());
+        assertEquals(CircuitBreaker.State.CLOSED, client.getMetrics().state());
+    }
+
+    @Test
+    void timesOutSlowCallsAndOpens() {
+        stubDelayMillis = 600;
+        for (int i = 0; i < 4; i++) {
+            assertInstanceOf(OmdbUnavailableException.class, failureOf(client.searchImdbIds("inception")));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, client.getMetrics().state());
+    }
+
+    @Test
+    void doesNotCountQueueWaitAgainstTheTimeout() {
+        stubDelayMillis = 150;
+        List<CompletableFuture<List<String>>> searches = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            searches.add(client.searchImdbIds("inception " + i));
+        }
+        // Two requests in flight at a time: the last ones wait about 450 ms, beyond the 400 ms timeout.
+        searches.forEach(search -> assertEquals(2, search.join().size()));
+        assertEquals(CircuitBreaker.State.CLOSED, client.getMetrics().state());
+        assertEquals(0.0, client.getMetrics().failureRate());
+    }
+
+    @Test
+    void releasesInFlightSlotsOfTimedOutRequests() {
+        stubDelayMillis = 2000;
+        List<CompletableFuture<List<String>>> searches = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            searches.add(client.searchImdbIds("slow " + i));
+        }
+        searches.forEach(search -> assertInstanceOf(OmdbUnavailableException.class, failureOf(search)));
+
+        stubDelayMillis = 0;
+        long startNanos = System.nanoTime();
+        assertEquals(2, client.searchImdbIds("inception").join().size());
+        assertTrue(System.nanoTime() - startNanos < TimeUnit.MILLISECONDS.toNanos(1000));
+    }
+
+    @Test
+    void adaptsTimeoutToObservedLatency() {
+        assertEquals(400, client.getTimeoutMillis());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(2, client.searchImdbIds("inception").join().size());
+        }
+        long timeoutMillis = client.getTimeoutMillis();
+        assertTrue(timeoutMillis >= 100 && timeoutMillis < 400, "timeout " + timeoutMillis + " ms");
+    }
+
+    @Test
+    void countsMissingMoviesAsSuccessfulCalls() {
+        for (int i = 0; i < 4; i++) {
+            assertInstanceOf(NoDataFoundException.class, failureOf(client.getMovieDetails("missing")));
+        }
+        CircuitBreaker.Metrics metrics = client.getMetrics();
+        assertEquals(CircuitBreaker.State.CLOSED, metrics.state());
+        assertEquals(0.0, metrics.failureRate());
+        assertTrue(metrics.calls() > 0);
+    }
+
+    @Test
+    void countsOmdbErrorsOtherThanNotFoundAsFailures() {
+        for (int i = 0; i < 4; i++) {
+            assertInstanceOf(OmdbApiException.class, failureOf(client.getMovieDetails("limited")));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, client.getMetrics().state());
+    }
+
+    private static Throwable failureOf(CompletableFuture<?> future) {
+        CompletionException e = assertThrows(CompletionException.class, future::join);
+        return e.getCause();
+    }
+
+    private static HttpServer startStub() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.createContext("/", exchange -> {
+                REQUESTS.incrementAndGet();
+                try {
+                    Thread.sleep(stubDelayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                String query = exchange.getRequestURI().getQuery();
+                String body;
+                if (query.startsWith("s=")) {
+                    body = "{\"Response\":\"True\",\"Search\":[{\"imdbID\":\"tt1375666\"},{\"imdbID\":\"tt0816692\"}]}";
+                } else if (query.startsWith("i=missing")) {
+                    body = "{\"Response\":\"False\",\"Error\":\"Incorrect IMDb ID.\"}";
+                } else if (query.startsWith("i=limited")) {
+                    body = "{\"Response\":\"False\",\"Error\":\"Request limit reached!\"}";
+                } else {
+                    body = "{\"Response\":\"True\",\"Title\":\"Inception\",\"imdbID\":\"tt1375666\"}";
+                }
+                byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(stubStatus, bytes.length);
+                try (OutputStream responseBody = exchange.getResponseBody()) {
+                    responseBody.write(bytes);
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package org.cinema.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.cinema.model.FilmSession;
+import org.cinema.model.Movie;
+import org.cinema.model.RequestType;
+import org.cinema.model.Role;
+import org.cinema.model.Status;
+import org.cinema.model.Ticket;
+import org.cinema.model.TicketAction;
+import org.cinema.model.User;
+import org.cinema.dto.filmSessionDTO.FilmSessionFilterDTO;
+import org.cinema.dto.filmSessionDTO.FilmSessionPageDTO;
+import org.cinema.dto.filmSessionDTO.FilmSessionResponseDTO;
+import org.cinema.service.ResourceVersionService;
+import org.cinema.service.ScheduleCacheService;
+import org.cinema.service.SeatCounterService;
+import org.cinema.service.SeatHoldService;
+import org.cinema.service.SeatInventoryService;
+import org.cinema.service.impl.SessionServiceImpl;
+import org.cinema.service.impl.TicketServiceImpl;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks that the ticket and session read paths load their associations with a single statement,
+ * however many users, sessions and movies the returned rows refer to, and that a ticket action
+ * is decided by its conditional update, with the seat read only after the ticket has moved.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:fetch_plan;MODE=MySQL;NON_KEYWORDS=YEAR",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.flyway.enabled=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TicketServiceImpl.class, SessionServiceImpl.class})
+class FetchPlanQueryCountTest {
+
+    private static final int ROWS = 4;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TicketServiceImpl ticketService;
+
+    @Autowired
+    private SessionServiceImpl sessionService;
+
+    @MockitoBean
+    private SeatInventoryService seatInventoryService;
+
+    @MockitoBean
+    private SeatHoldService seatHoldService;
+
+    @MockitoBean
+    private SeatCounterService seatCounterService;
+
+    @MockitoBean
+    private ScheduleCacheService scheduleCacheService;
+
+    @MockitoBean
+    private ResourceVersionService resourceVersionService;
+
+    private final LocalDate date = LocalDate.now().plusDays(1);
+    private final List<User> users = new ArrayList<>();
+    private final List<FilmSession> sessions = new ArrayList<>();
+    private final List<Ticket> tickets = new ArrayList<>();
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        when(scheduleCacheService.getAll(any())).thenAnswer(invocation ->
+                invocation.<Supplier<List<FilmSessionResponseDTO>>>getArgument(0).get());
+        when(scheduleCacheService.getByDate(any(), any())).thenAnswer(invocation ->
+                invocation.<Supplier<List<FilmSessionResponseDTO>>>getArgument(1).get());
+
+        for (int i = 0; i < ROWS; i++) {
+            Movie movie = new Movie();
+            movie.setTitle("Movie " + i);
+            entityManager.persist(movie);
+
+            FilmSession session = new FilmSession(null, movie, BigDecimal.TEN, date,
+                    LocalTime.of(10 + i, 0), LocalTime.of(10 + i, 50), 50, 0, 0);
+            sessions.add(entityManager.persist(session));
+
+            User user = new User(null, "user" + i, "password", Role.ROLE_USER, null);
+            users.add(entityManager.persist(user));
+        }
+        for (User user : users) {
+            for (int i = 0; i < ROWS; i++) {
+                Ticket ticket = new Ticket(null, user, sessions.get(i), i + 1,
+                        LocalDateTime.now(), Status.PENDING, RequestType.PURCHASE);
+                tickets.add(entityManager.persist(ticket));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findAllTicketsRunsOneStatement() {
+        assertEquals(ROWS * ROWS, ticketService.findAll().size());
+        assertStatements(1);
+    }
+
+    @Test
+    void findTicketsByUserIdRunsOneStatement() {
+        assertEquals(ROWS, ticketService.findByUserId(String.valueOf(users.get(0).getId())).size());
+        assertStatements(1);
+    }
+
+    @Test
+    void getTicketByIdRunsOneStatement() {
+        ticketService.getById(String.valueOf(tickets.get(0).getId()));
+        assertStatements(1);
+    }
+
+    @Test
+    void findAllSessionsRunsOneStatement() {
+        assertEquals(ROWS, sessionService.findAll().size());
+        assertStatements(1);
+    }
+
+    @Test
+    void findSessionsByDateRunsOneStatement() {
+        assertEquals(ROWS, sessionService.findByDate(date.toString()).size());
+        assertStatements(1);
+    }
+
+    @Test
+    void findUpcomingSessionsRunsOneStatement() {
+        FilmSessionPageDTO page = sessionService.findUpcoming(FilmSessionFilterDTO.builder().size(ROWS - 1).build());
+        assertEquals(ROWS - 1, page.getSessions().size());
+        assertTrue(page.isHasMore());
+        assertStatements(1);
+    }
+
+    @Test
+    void getSessionByIdRunsOneStatement() {
+        sessionService.getById(String.valueOf(sessions.get(0).getId()));
+        assertStatements(1);
+    }
+
+    @Test
+    void returnTicketRunsOneUpdateAndOneSeatRead() {
+        Long ticketId = tickets.get(0).getId();
+        setState(ticketId, Status.PENDING, RequestType.RETURN);
+
+        assertEquals(TicketAction.RETURN.getSuccessMessage(), ticketService.processTicketAction("return", ticketId));
+        assertStatements(2);
+        verify(seatCounterService).ticketsChanged(tickets.get(0).getFilmSession().getId(),
+                Status.PENDING, Status.RETURNED, 1);
+        assertEquals(Status.RETURNED, entityManager.find(Ticket.class, ticketId).getStatus());
+    }
+
+    @Test
+    void returnOfConfirmedTicketReportsTheStatusItLeft() {
+        Long ticketId = tickets.get(0).getId();
+        setState(ticketId, Status.CONFIRMED, RequestType.RETURN);
+
+        assertEquals(TicketAction.RETURN.getSuccessMessage(), ticketService.processTicketAction("return", ticketId));
+        assertStatements(3);
+        verify(seatCounterService).ticketsChanged(tickets.get(0).getFilmSession().getId(),
+                Status.CONFIRMED, Status.RETURNED, 1);
+        assertEquals(Status.RETURNED, entityManager.find(Ticket.class, ticketId).getStatus());
+    }
+
+    @Test
+    void rejectedTicketActionRunsOneUpdateAndOneExistenceCheck() {
+        Long ticketId = tickets.get(0).getId();
+        setState(ticketId, Status.CONFIRMED, RequestType.PURCHASE);
+
+        assertEquals(TicketAction.CONFIRM.getRejectedMessage(), ticketService.processTicketAction("confirm", ticketId));
+        assertStatements(2);
+        verifyNoInteractions(seatCounterService);
+        assertEquals(Status.CONFIRMED, entityManager.find(Ticket.class, ticketId).getStatus());
+    }
+
+    private void setState(Long ticketId, Status status, RequestType requestType) {
+        entityManager.getEntityManager()
+                .createQuery("UPDATE Ticket t SET t.status = :status, t.requestType = :requestType WHERE t.id = :id")
+                .setParameter("status", status)
+                .setParameter("requestType", requestType)
+                .setParameter("id", ticketId)
+                .executeUpdate();
+        statistics.clear();
+    }
+
+    private void assertStatements(long expected) {
+        entityManager.clear();
+        assertEquals(expected, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,42 @@
+package org.cinema.service.impl;
+
+import org.cinema.client.OmdbClient;
+import org.cinema.model.Movie;
+import org.cinema.repository.MovieRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks that a movie search runs on the normalized title it is coalesced on, so callers whose
+ * titles differ only in case or spacing get the same results.
+ */
+class MovieServiceImplTest {
+
+    private final MovieRepository movieRepository = Mockito.mock(MovieRepository.class);
+    private final OmdbClient omdbClient = Mockito.mock(OmdbClient.class);
+    private final MovieServiceImpl movieService = new MovieServiceImpl(movieRepository, omdbClient);
+
+    @Test
+    void searchesTheDatabaseForTheNormalizedTitle() {
+        Movie movie = new Movie();
+        movie.setTitle("The Dark Knight");
+        when(movieRepository.findByTitleContainingIgnoreCase("the dark knight")).thenReturn(List.of(movie));
+
+        assertEquals("The Dark Knight", movieService.searchMovies("  The DARK   knight ").get(0).getTitle());
+        assertEquals("The Dark Knight", movieService.searchMovies("the dark knight").get(0).getTitle());
+    }
+
+    @Test
+    void searchesOmdbForTheNormalizedTitle() {
+        when(omdbClient.searchMovies("the dark knight")).thenReturn(CompletableFuture.completedFuture(List.of()));
+
+        assertEquals(List.of(), movieService.searchMovies("The  Dark Knight"));
+        verify(omdbClient).searchMovies("the dark knight");
+    }
+}
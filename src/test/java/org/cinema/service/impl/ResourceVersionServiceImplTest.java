@@ -0,0 +1,51 @@
+package org.cinema.service.impl;
+
+import org.junit.jupiter.api.Test;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Checks that pruning drops the versions of past schedules and idle sessions, and that a pruned
+ * resource never falls back to an entity tag issued for older content.
+ */
+class ResourceVersionServiceImplTest {
+
+    private final ResourceVersionServiceImpl resourceVersionService = new ResourceVersionServiceImpl();
+
+    @Test
+    void prunesPastSchedulesWithoutReissuingTheirTags() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        LocalDate today = LocalDate.now();
+        String unchanged = resourceVersionService.getScheduleETag(yesterday);
+        resourceVersionService.schedulesChanged(List.of(yesterday, today));
+        String changed = resourceVersionService.getScheduleETag(yesterday);
+        String current = resourceVersionService.getScheduleETag(today);
+
+        assertEquals(1, resourceVersionService.prune());
+
+        String pruned = resourceVersionService.getScheduleETag(yesterday);
+        assertFalse(Set.of(unchanged, changed).contains(pruned));
+        assertEquals(current, resourceVersionService.getScheduleETag(today));
+    }
+
+    @Test
+    void prunesSessionsThatStayedUnchangedForAWholeInterval() {
+        String unchanged = resourceVersionService.getSessionETag(1L, "seats");
+        resourceVersionService.sessionChanged(1L);
+        String changed = resourceVersionService.getSessionETag(1L, "seats");
+
+        assertEquals(0, resourceVersionService.prune());
+        assertEquals(changed, resourceVersionService.getSessionETag(1L, "seats"));
+
+        resourceVersionService.sessionChanged(2L);
+        String active = resourceVersionService.getSessionETag(2L, "seats");
+        assertEquals(1, resourceVersionService.prune());
+
+        assertFalse(Set.of(unchanged, changed).contains(resourceVersionService.getSessionETag(1L, "seats")));
+        assertEquals(active, resourceVersionService.getSessionETag(2L, "seats"));
+    }
+}
@@ -0,0 +1,118 @@
+package org.cinema.service.impl;
+
+import org.cinema.model.SeatEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that subscribers whose sends block, as they do when a client's TCP window is full,
+ * neither delay the other subscribers of the session nor stay subscribed past the send timeout.
+ */
+class SeatEventServiceImplTest {
+
+    private static final int STALLED = 6;
+    private static final int HEALTHY = 3;
+    private static final int EVENTS = 10;
+
+    private final CountDownLatch unblock = new CountDownLatch(1);
+    private final List<SseEmitter> emitters = new ArrayList<>();
+    private final SeatEventServiceImpl seatEventService = new SeatEventServiceImpl() {
+        @Override
+        SseEmitter createEmitter(long timeoutMillis) {
+            return emitters.remove(0);
+        }
+    };
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(seatEventService, "bufferSize", 256);
+        ReflectionTestUtils.setField(seatEventService, "timeoutMinutes", 30L);
+        ReflectionTestUtils.setField(seatEventService, "sendTimeoutMillis", 100L);
+        seatEventService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        unblock.countDown();
+        seatEventService.shutdown();
+    }
+
+    @Test
+    void stalledSubscribersDoNotDelayTheOthers() throws Exception {
+        List<StalledEmitter> stalled = new ArrayList<>();
+        for (int i = 0; i < STALLED; i++) {
+            stalled.add(new StalledEmitter());
+        }
+        List<RecordingEmitter> healthy = new ArrayList<>();
+        for (int i = 0; i < HEALTHY; i++) {
+            healthy.add(new RecordingEmitter(EVENTS + 1));
+        }
+        emitters.addAll(stalled);
+        emitters.addAll(healthy);
+        for (int i = 0; i < STALLED + HEALTHY; i++) {
+            seatEventService.subscribe(1L, List::of);
+        }
+        for (StalledEmitter emitter : stalled) {
+            assertTrue(emitter.sending.await(5, TimeUnit.SECONDS));
+        }
+
+        for (int i = 0; i < EVENTS; i++) {
+            seatEventService.publish(new SeatEvent(SeatEvent.Type.TAKEN, 1L, List.of(i + 1)));
+        }
+        for (RecordingEmitter emitter : healthy) {
+            assertTrue(emitter.received.await(5, TimeUnit.SECONDS));
+        }
+
+        Thread.sleep(200);
+        assertEquals(STALLED, seatEventService.dropStalledSubscribers());
+        for (StalledEmitter emitter : stalled) {
+            assertTrue(emitter.failed.await(5, TimeUnit.SECONDS));
+        }
+        assertEquals(0, seatEventService.dropStalledSubscribers());
+    }
+
+    private final class StalledEmitter extends SseEmitter {
+
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch failed = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sending.countDown();
+            try {
+                unblock.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            failed.countDown();
+        }
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final CountDownLatch received;
+
+        private RecordingEmitter(int events) {
+            this.received = new CountDownLatch(events);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            received.countDown();
+        }
+    }
+}
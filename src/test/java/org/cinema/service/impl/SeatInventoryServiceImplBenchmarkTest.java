@@ -0,0 +1,100 @@
+package org.cinema.service.impl;
+
+import org.cinema.model.FilmSession;
+import org.cinema.repository.TicketRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.mockito.Mockito;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+/**
+ * Contention benchmark of {@link SeatInventoryServiceImpl}: every thread reserves and releases random seats of
+ * distinct sessions, and the throughput is reported for 1 up to twice the number of cores.
+ * With striped session locks the throughput should grow with the threads up to the number of cores.
+ * Opt-in: {@code mvn test -Dtest=SeatInventoryServiceImplBenchmarkTest -Dbenchmark=true}.
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class SeatInventoryServiceImplBenchmarkTest {
+
+    private static final int SESSIONS = 1024;
+    private static final int CAPACITY = 500;
+    private static final long WARMUP_MILLIS = 1000;
+    private static final long DURATION_MILLIS = 2000;
+
+    @Test
+    void reportsThroughputPerThreadCount() throws InterruptedException {
+        TicketRepository ticketRepository = Mockito.mock(TicketRepository.class);
+        when(ticketRepository.findActiveSeatNumbersBySessionId(anyLong())).thenReturn(List.of());
+        SeatInventoryServiceImpl seatInventoryService = new SeatInventoryServiceImpl(ticketRepository,
+                new ResourceVersionServiceImpl(), new SeatEventServiceImpl());
+        List<FilmSession> sessions = new ArrayList<>();
+        for (long id = 1; id <= SESSIONS; id++) {
+            FilmSession session = new FilmSession();
+            session.setId(id);
+            session.setCapacity(CAPACITY);
+            sessions.add(session);
+        }
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        run(seatInventoryService, sessions, cores, WARMUP_MILLIS);
+        System.out.printf("%d core(s), %d sessions, %d seats each%n", cores, SESSIONS, CAPACITY);
+        long singleThreaded = 0;
+        for (int threads = 1; threads <= cores * 2; threads *= 2) {
+            long opsPerSecond = run(seatInventoryService, sessions, threads, DURATION_MILLIS);
+            if (threads == 1) {
+                singleThreaded = opsPerSecond;
+            }
+            System.out.printf("%3d thread(s): %,12d ops/s  x%.2f%n", threads, opsPerSecond,
+                    (double) opsPerSecond / singleThreaded);
+            assertTrue(opsPerSecond > 0);
+        }
+    }
+
+    private static long run(SeatInventoryServiceImpl seatInventoryService, List<FilmSession> sessions,
+                            int threads, long durationMillis) throws InterruptedException {
+        LongAdder operations = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        long deadline = System.nanoTime() + durationMillis * 1_000_000;
+        List<Thread> workers = new ArrayList<>();
+
+        for (int i = 0; i < threads; i++) {
+            Thread worker = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                long count = 0;
+                while (System.nanoTime() < deadline) {
+                    FilmSession session = sessions.get(random.nextInt(sessions.size()));
+                    int seatNumber = random.nextInt(CAPACITY) + 1;
+                    if (seatInventoryService.reserve(session, seatNumber)) {
+                        seatInventoryService.release(session.getId(), seatNumber);
+                    }
+                    count++;
+                }
+                operations.add(count);
+            });
+            worker.start();
+            workers.add(worker);
+        }
+
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return operations.sum() * 1000 / durationMillis;
+    }
+}
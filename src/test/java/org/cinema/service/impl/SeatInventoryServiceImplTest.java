@@ -0,0 +1,204 @@
+package org.cinema.service.impl;
+
+import org.cinema.model.FilmSession;
+import org.cinema.model.SeatEvent;
+import org.cinema.repository.TicketRepository;
+import org.cinema.service.SeatEventService;
+import org.cinema.util.StripedLock;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Races many threads for the seats of a few sessions and checks that the striped seat inventory
+ * hands out every seat exactly once, whatever the number of threads, that rolled back
+ * reservations never announce or clear seats they do not own, and that past sessions leave the cache.
+ */
+class SeatInventoryServiceImplTest {
+
+    private static final int SESSIONS = 8;
+    private static final int CAPACITY = 300;
+
+    private final TicketRepository ticketRepository = Mockito.mock(TicketRepository.class);
+    private final SeatInventoryServiceImpl seatInventoryService = new SeatInventoryServiceImpl(ticketRepository,
+            new ResourceVersionServiceImpl(), new SeatEventServiceImpl());
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 4, 8, 16, 32})
+    void grantsEverySeatExactlyOnce(int threads) throws Exception {
+        when(ticketRepository.findActiveSeatNumbersBySessionId(anyLong())).thenReturn(List.of());
+        List<FilmSession> sessions = new ArrayList<>();
+        for (long id = 1; id <= SESSIONS; id++) {
+            sessions.add(session(id));
+        }
+        AtomicIntegerArray grants = new AtomicIntegerArray(SESSIONS * (CAPACITY + 1));
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                workers.add(executor.submit(() -> {
+                    List<Integer> order = new ArrayList<>();
+                    for (int i = 0; i < SESSIONS * CAPACITY; i++) {
+                        order.add(i);
+                    }
+                    Collections.shuffle(order);
+                    start.await();
+                    for (int slot : order) {
+                        int sessionIndex = slot / CAPACITY;
+                        int seatNumber = slot % CAPACITY + 1;
+                        if (seatInventoryService.reserve(sessions.get(sessionIndex), seatNumber)) {
+                            grants.incrementAndGet(sessionIndex * (CAPACITY + 1) + seatNumber);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (int sessionIndex = 0; sessionIndex < SESSIONS; sessionIndex++) {
+            for (int seatNumber = 1; seatNumber <= CAPACITY; seatNumber++) {
+                assertEquals(1, grants.get(sessionIndex * (CAPACITY + 1) + seatNumber),
+                        "session " + (sessionIndex + 1) + ", seat " + seatNumber);
+            }
+            assertEquals(CAPACITY, seatInventoryService.getTakenSeatSet(sessions.get(sessionIndex)).cardinality());
+        }
+    }
+
+    @Test
+    void coldLoadDoesNotBlockSessionsOnTheSameStripe() throws Exception {
+        StripedLock sessionLocks = (StripedLock) ReflectionTestUtils.getField(seatInventoryService, "sessionLocks");
+        long slowId = 1;
+        long neighbourId = slowId + 1;
+        while (sessionLocks.get(neighbourId) != sessionLocks.get(slowId)) {
+            neighbourId++;
+        }
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(ticketRepository.findActiveSeatNumbersBySessionId(anyLong())).thenReturn(List.of());
+        when(ticketRepository.findActiveSeatNumbersBySessionId(slowId)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await();
+            return List.of(5);
+        });
+
+        CompletableFuture<Boolean> slow = CompletableFuture.supplyAsync(
+                () -> seatInventoryService.getTakenSeatSet(session(slowId)).get(5));
+        try {
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            FilmSession neighbour = session(neighbourId);
+            CompletableFuture<Boolean> reserved = CompletableFuture.supplyAsync(
+                    () -> seatInventoryService.reserve(neighbour, 5));
+            assertTrue(reserved.get(5, TimeUnit.SECONDS));
+            assertFalse(slow.isDone());
+        } finally {
+            release.countDown();
+        }
+        assertTrue(slow.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void rollbackAfterEvictionLeavesTheReloadedSeatMapAlone() {
+        SeatEventService seatEventService = Mockito.mock(SeatEventService.class);
+        SeatInventoryServiceImpl inventory = new SeatInventoryServiceImpl(ticketRepository,
+                new ResourceVersionServiceImpl(), seatEventService);
+        FilmSession session = session(1);
+        when(ticketRepository.findActiveSeatNumbersBySessionId(1L)).thenReturn(List.of());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertTrue(inventory.reserve(session, 5));
+            // The insert hit the unique key: another buyer committed seat 5 in the meantime.
+            when(ticketRepository.findActiveSeatNumbersBySessionId(1L)).thenReturn(List.of(5));
+            inventory.evict(1L);
+            assertTrue(inventory.getTakenSeatSet(session).get(5));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertTrue(inventory.getTakenSeatSet(session).get(5));
+        verify(seatEventService).publish(new SeatEvent(SeatEvent.Type.RESYNC, 1L, List.of()));
+        verifyNoMoreInteractions(seatEventService);
+    }
+
+    @Test
+    void rollbackUndoesReservationWithoutEvents() {
+        SeatEventService seatEventService = Mockito.mock(SeatEventService.class);
+        SeatInventoryServiceImpl inventory = new SeatInventoryServiceImpl(ticketRepository,
+                new ResourceVersionServiceImpl(), seatEventService);
+        FilmSession session = session(1);
+        when(ticketRepository.findActiveSeatNumbersBySessionId(1L)).thenReturn(List.of());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertTrue(inventory.reserve(session, 5));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertFalse(inventory.getTakenSeatSet(session).get(5));
+        verifyNoInteractions(seatEventService);
+    }
+
+    @Test
+    void evictsOnlySeatMapsOfPastSessions() {
+        FilmSession past = session(1);
+        past.setDate(LocalDate.now().minusDays(1));
+        FilmSession today = session(2);
+        today.setDate(LocalDate.now());
+        when(ticketRepository.findActiveSeatNumbersBySessionId(anyLong())).thenReturn(List.of());
+        assertTrue(seatInventoryService.reserve(past, 5));
+        assertTrue(seatInventoryService.reserve(today, 5));
+
+        assertEquals(1, seatInventoryService.evictPastSessions());
+        assertEquals(0, seatInventoryService.evictPastSessions());
+
+        assertTrue(seatInventoryService.getTakenSeatSet(today).get(5));
+        assertFalse(seatInventoryService.getTakenSeatSet(past).get(5));
+        verify(ticketRepository, times(2)).findActiveSeatNumbersBySessionId(1L);
+        verify(ticketRepository, times(1)).findActiveSeatNumbersBySessionId(2L);
+    }
+
+    private static FilmSession session(long id) {
+        FilmSession session = new FilmSession();
+        session.setId(id);
+        session.setCapacity(CAPACITY);
+        return session;
+    }
+}